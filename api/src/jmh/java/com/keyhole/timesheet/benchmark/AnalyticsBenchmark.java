@@ -0,0 +1,86 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.keyhole.timesheet.dto.EmployeeResponse;
+import com.keyhole.timesheet.dto.HoursBreakdownResponse;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import com.keyhole.timesheet.service.AnalyticsDimension;
+import com.keyhole.timesheet.service.AnalyticsFilter;
+import com.keyhole.timesheet.service.TimeEntryAnalyticsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * "Hours by department by project for the last 18 months" from the in-memory analytics
+ * index, against the same report built from JPA rows grouped in application code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalyticsBenchmark {
+
+    private static final LocalDate START_DATE = SeedDataGenerator.END_DATE.minusMonths(18);
+
+    @Param({"100000", "1000000"})
+    int entries;
+
+    private ConfigurableApplicationContext context;
+    private TimeEntryAnalyticsService analyticsService;
+    private TimeEntryRepository timeEntryRepository;
+    private EmployeeRepository employeeRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries, "--timesheet.analytics.enabled=true");
+        analyticsService = context.getBean(TimeEntryAnalyticsService.class);
+        // The index loaded at startup, before the seed data went in
+        analyticsService.start();
+        timeEntryRepository = context.getBean(TimeEntryRepository.class);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public HoursBreakdownResponse analyticsIndex() {
+        return analyticsService.breakdown(List.of(AnalyticsDimension.DEPARTMENT, AnalyticsDimension.PROJECT),
+                AnalyticsFilter.builder().startDate(START_DATE).endDate(SeedDataGenerator.END_DATE).build());
+    }
+
+    @Benchmark
+    public Map<List<Object>, BigDecimal> jpaGroupBy() {
+        Map<Long, String> departments = new HashMap<>();
+        for (EmployeeResponse employee : employeeRepository.findAllResponses()) {
+            departments.put(employee.getId(), employee.getDepartment());
+        }
+        List<TimeEntryResponse> rows = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .startDate(START_DATE)
+                .endDate(SeedDataGenerator.END_DATE)
+                .build());
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> List.of(String.valueOf(departments.get(row.getEmployeeId())), row.getProjectName()),
+                Collectors.reducing(BigDecimal.ZERO, TimeEntryResponse::getHours, BigDecimal::add)));
+    }
+}
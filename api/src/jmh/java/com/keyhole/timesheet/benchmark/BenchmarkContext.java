@@ -0,0 +1,48 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.keyhole.timesheet.TimesheetApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application against a private in-memory H2 database loaded by
+ * {@link SeedDataGenerator} instead of {@code data.sql}.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    // Without a web server, for benchmarks that call beans directly
+    public static ConfigurableApplicationContext start(int entries, String... args) {
+        return run(WebApplicationType.NONE, entries, args);
+    }
+
+    // With Tomcat on a random port (local.server.port), for load tests over HTTP
+    public static ConfigurableApplicationContext startServer(int entries, String... args) {
+        return run(WebApplicationType.SERVLET, entries, args);
+    }
+
+    private static ConfigurableApplicationContext run(WebApplicationType type, int entries, String... extraArgs) {
+        // Arguments rather than default properties so they win over application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--server.port=0"));
+        args.addAll(List.of(extraArgs));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TimesheetApplication.class)
+                .web(type)
+                .run(args.toArray(String[]::new));
+        new SeedDataGenerator(entries).populate(context.getBean(DataSource.class));
+        return context;
+    }
+}
@@ -0,0 +1,112 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.entity.QuarterHours;
+import com.keyhole.timesheet.service.TimeEntryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Submission throughput under the employee row lock that keeps the 24-hour rule atomic.
+ * {@code sameEmployee} sends every thread's submissions to one employee, so they serialize on
+ * that lock; {@code ownEmployee} gives each thread its own employee, leaving only connections
+ * and CPU to share. Each submission is a quarter hour in the next free slot after the seed
+ * data, and every iteration starts again from the seed data. Needs fewer threads than seeded
+ * employees:
+ * <pre>
+ * ./mvnw -Pbenchmark -DskipTests test-compile exec:exec@jmh -Djmh.args="ConcurrentSubmissionBenchmark -t 16"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ConcurrentSubmissionBenchmark {
+
+    private static final LocalDate FIRST_FREE_DAY = SeedDataGenerator.END_DATE.plusDays(1);
+    private static final BigDecimal QUARTER_HOUR = new BigDecimal("0.25");
+
+    @Param({"20000"})
+    int entries;
+
+    private final AtomicInteger sharedSlots = new AtomicInteger();
+    private ConfigurableApplicationContext context;
+    private TimeEntryService timeEntryService;
+    private JdbcTemplate jdbcTemplate;
+
+    @State(Scope.Thread)
+    public static class Submitter {
+
+        long employeeId;
+        int slots;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threads) {
+            // Employee 1 is the shared one
+            employeeId = threads.getThreadIndex() + 2;
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            slots = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries);
+        timeEntryService = context.getBean(TimeEntryService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        jdbcTemplate.update("DELETE FROM time_entries WHERE date >= ?", FIRST_FREE_DAY);
+        jdbcTemplate.update("DELETE FROM daily_hours WHERE date >= ?", FIRST_FREE_DAY);
+        sharedSlots.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TimeEntryResponse sameEmployee() {
+        return timeEntryService.create(request(1L, sharedSlots.getAndIncrement()));
+    }
+
+    @Benchmark
+    public TimeEntryResponse ownEmployee(Submitter submitter) {
+        return timeEntryService.create(request(submitter.employeeId, submitter.slots++));
+    }
+
+    // A day holds MAX_PER_DAY quarter-hour slots, so no submission is rejected whatever order they commit in
+    private static TimeEntryRequest request(long employeeId, int slot) {
+        return TimeEntryRequest.builder()
+                .employeeId(employeeId)
+                .projectId(1L)
+                .date(FIRST_FREE_DAY.plusDays(slot / QuarterHours.MAX_PER_DAY))
+                .hours(QUARTER_HOUR)
+                .description("Benchmark submission")
+                .build();
+    }
+}
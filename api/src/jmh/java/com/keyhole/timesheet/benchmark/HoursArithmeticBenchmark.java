@@ -0,0 +1,97 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.keyhole.timesheet.entity.QuarterHours;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former {@code BigDecimal} hours arithmetic with the quarter-hour ints now used
+ * for validation and daily totals. Each operation validates a batch of entries and sums them
+ * into a day, mirroring what bulk ingestion and the rollup do per request.
+ * Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HoursArithmeticBenchmark {
+
+    @Param({"1000"})
+    int entries;
+
+    private BigDecimal[] hours;
+    private int[] quarterHours;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        hours = new BigDecimal[entries];
+        quarterHours = new int[entries];
+        for (int i = 0; i < entries; i++) {
+            int quarters = random.nextInt(31) + 1;
+            hours[i] = QuarterHours.toHours(quarters);
+            quarterHours[i] = quarters;
+        }
+    }
+
+    // Validation and summing as TimeEntryService did before hours were stored as quarter-hours
+    @Benchmark
+    public BigDecimal bigDecimalValidateAndSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal value : hours) {
+            if (value.remainder(new BigDecimal("0.25")).compareTo(BigDecimal.ZERO) != 0) {
+                throw new IllegalArgumentException("Hours must be in 0.25 increments");
+            }
+            if (value.compareTo(new BigDecimal("0.25")) < 0 || value.compareTo(new BigDecimal("24")) > 0) {
+                throw new IllegalArgumentException("Hours must be between 0.25 and 24");
+            }
+            total = total.add(value);
+            if (total.compareTo(new BigDecimal("24")) > 0) {
+                total = BigDecimal.ZERO;
+            }
+        }
+        return total;
+    }
+
+    // Boundary conversion of each request followed by int-only rules and totals
+    @Benchmark
+    public int quarterHoursConvertValidateAndSum() {
+        int total = 0;
+        for (BigDecimal value : hours) {
+            int quarters = QuarterHours.fromHours(value);
+            if (quarters == QuarterHours.NOT_QUARTERS) {
+                throw new IllegalArgumentException("Hours must be in 0.25 increments");
+            }
+            if (quarters < QuarterHours.MIN_PER_ENTRY || quarters > QuarterHours.MAX_PER_DAY) {
+                throw new IllegalArgumentException("Hours must be between 0.25 and 24");
+            }
+            total += quarters;
+            if (total > QuarterHours.MAX_PER_DAY) {
+                total = 0;
+            }
+        }
+        return total;
+    }
+
+    // Rollup and daily-limit arithmetic on values already held as quarter-hours
+    @Benchmark
+    public int quarterHoursSum() {
+        int total = 0;
+        for (int quarters : quarterHours) {
+            total += quarters;
+            if (total > QuarterHours.MAX_PER_DAY) {
+                total = 0;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.keyhole.timesheet.entity.PayrollClose;
+import com.keyhole.timesheet.repository.PayrollCloseRepository;
+import com.keyhole.timesheet.service.PayrollCloseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full pay period close (every employee, the last month of seed data) with 1 to N
+ * fork-join workers. Each invocation starts from an empty checkpoint.
+ * <pre>
+ * ./mvnw -Pbenchmark -DskipTests test-compile exec:exec@jmh -Djmh.args="PayrollCloseBenchmark -p parallelism=1,2,4,8"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PayrollCloseBenchmark {
+
+    @Param({"100000"})
+    int entries;
+
+    @Param({"1", "2", "4"})
+    int parallelism;
+
+    private ConfigurableApplicationContext context;
+    private PayrollCloseService payrollCloseService;
+    private PayrollCloseRepository payrollCloseRepository;
+    private JdbcTemplate jdbcTemplate;
+    private Long closeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries,
+                "--timesheet.payroll.parallelism=" + parallelism,
+                "--spring.datasource.hikari.maximum-pool-size=" + Math.max(10, parallelism + 2));
+        payrollCloseService = context.getBean(PayrollCloseService.class);
+        payrollCloseRepository = context.getBean(PayrollCloseRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void newClose() {
+        jdbcTemplate.update("DELETE FROM payroll_summary_projects");
+        jdbcTemplate.update("DELETE FROM payroll_summaries");
+        jdbcTemplate.update("DELETE FROM payroll_closes");
+        closeId = payrollCloseRepository.save(PayrollClose.builder()
+                .startDate(SeedDataGenerator.END_DATE.withDayOfMonth(1))
+                .endDate(SeedDataGenerator.END_DATE)
+                .status(PayrollCloseService.RUNNING)
+                .startedAt(Instant.now())
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void closePayPeriod() {
+        payrollCloseService.run(closeId);
+    }
+}
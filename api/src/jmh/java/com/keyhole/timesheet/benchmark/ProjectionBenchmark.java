@@ -0,0 +1,140 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.entity.QuarterHours;
+import com.keyhole.timesheet.entity.TimeEntry;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO constructor projections ({@code RESPONSE_SELECT}) against hydrating {@link TimeEntry}
+ * entities with their employee and project through a fetch-join query and mapping them. Both
+ * sides of each pair use the same predicate; entity reads run in a read-only transaction
+ * like the services'. H2 runs in-process, so allocation includes the database's share. Run with
+ * the GC profiler to compare allocation per call:
+ * {@code -Djmh.args="ProjectionBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionBenchmark {
+
+    private static final LocalDate MONTH_START = SeedDataGenerator.END_DATE.withDayOfMonth(1);
+    // Entities with their employee and project, as the removed @EntityGraph finders loaded them
+    private static final String ENTITY_SELECT =
+            "SELECT t FROM TimeEntry t JOIN FETCH t.employee JOIN FETCH t.project ";
+
+    @Param({"100000"})
+    int entries;
+
+    private ConfigurableApplicationContext context;
+    private TimeEntryRepository timeEntryRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private int employees;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries);
+        timeEntryRepository = context.getBean(TimeEntryRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        employees = new SeedDataGenerator(entries).getEmployees();
+        random = new SplittableRandom(7L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TimeEntryResponse byIdProjection() {
+        return timeEntryRepository.findResponseById(nextEntryId()).orElseThrow();
+    }
+
+    @Benchmark
+    public TimeEntryResponse byIdEntity() {
+        long id = nextEntryId();
+        return readOnly.execute(status -> toResponse(timeEntryRepository.findById(id).orElseThrow()));
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> employeeMonthProjection() {
+        return timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .employeeId(nextEmployeeId())
+                .startDate(MONTH_START)
+                .endDate(SeedDataGenerator.END_DATE)
+                .build());
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> employeeMonthEntity() {
+        long employeeId = nextEmployeeId();
+        return readOnly.execute(status -> entityManager.createQuery(ENTITY_SELECT
+                                + "WHERE t.employee.id = :employeeId AND t.date BETWEEN :startDate AND :endDate", TimeEntry.class)
+                .setParameter("employeeId", employeeId)
+                .setParameter("startDate", MONTH_START)
+                .setParameter("endDate", SeedDataGenerator.END_DATE)
+                .getResultStream()
+                .map(ProjectionBenchmark::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> allProjection() {
+        return timeEntryRepository.findResponses(new TimeEntryFilter());
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> allEntity() {
+        return readOnly.execute(status -> entityManager.createQuery(ENTITY_SELECT, TimeEntry.class)
+                .getResultStream()
+                .map(ProjectionBenchmark::toResponse)
+                .toList());
+    }
+
+    private static TimeEntryResponse toResponse(TimeEntry entry) {
+        return TimeEntryResponse.builder()
+                .id(entry.getId())
+                .employeeId(entry.getEmployee().getId())
+                .employeeName(entry.getEmployee().getFirstName() + " " + entry.getEmployee().getLastName())
+                .projectId(entry.getProject().getId())
+                .projectName(entry.getProject().getName())
+                .date(entry.getDate())
+                .hours(QuarterHours.toHours(entry.getQuarterHours()))
+                .description(entry.getDescription())
+                .build();
+    }
+
+    private long nextEntryId() {
+        return random.nextInt(entries) + 1;
+    }
+
+    private long nextEmployeeId() {
+        return random.nextInt(employees) + 1;
+    }
+}
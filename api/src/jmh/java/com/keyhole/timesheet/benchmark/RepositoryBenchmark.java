@@ -0,0 +1,92 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.repository.DailyHoursRepository;
+import com.keyhole.timesheet.repository.DailyProjectHours;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time entry and rollup queries against a generated H2 data set.
+ * Override the size with {@code -Djmh.args="RepositoryBenchmark -p entries=1000000"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"100000"})
+    int entries;
+
+    private ConfigurableApplicationContext context;
+    private TimeEntryRepository timeEntryRepository;
+    private DailyHoursRepository dailyHoursRepository;
+    private int employees;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries);
+        timeEntryRepository = context.getBean(TimeEntryRepository.class);
+        dailyHoursRepository = context.getBean(DailyHoursRepository.class);
+        employees = new SeedDataGenerator(entries).getEmployees();
+        random = new SplittableRandom(7L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> employeeMonth() {
+        TimeEntryFilter filter = TimeEntryFilter.builder()
+                .employeeId(nextEmployeeId())
+                .startDate(SeedDataGenerator.END_DATE.withDayOfMonth(1))
+                .endDate(SeedDataGenerator.END_DATE)
+                .build();
+        return timeEntryRepository.findResponses(filter);
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> firstPage() {
+        return timeEntryRepository.findResponsePage(new TimeEntryFilter(), null, null, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<TimeEntryResponse> descriptionSearch() {
+        TimeEntryFilter filter = TimeEntryFilter.builder()
+                .employeeId(nextEmployeeId())
+                .description("review")
+                .build();
+        return timeEntryRepository.findResponses(filter);
+    }
+
+    @Benchmark
+    public List<DailyProjectHours> weeklyRollup() {
+        LocalDate monday = SeedDataGenerator.END_DATE.minusDays(SeedDataGenerator.END_DATE.getDayOfWeek().getValue() - 1);
+        return dailyHoursRepository.findProjectHours(nextEmployeeId(), monday, monday.plusDays(6));
+    }
+
+    private long nextEmployeeId() {
+        return random.nextInt(employees) + 1;
+    }
+}
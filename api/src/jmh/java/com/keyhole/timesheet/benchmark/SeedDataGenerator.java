@@ -0,0 +1,202 @@
+package com.keyhole.timesheet.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Scales the {@code data.sql} seed data to an arbitrary number of time entries.
+ * Rows are deterministic for a given size and seed, so benchmark runs stay comparable.
+ * <p>
+ * Each employee logs up to three entries per working day, staying below the 24-hour
+ * daily limit, walking backwards from {@link #END_DATE}. The generated data can either be
+ * loaded straight into a {@link DataSource} or written out as an H2 script:
+ * <pre>
+ * java -cp ... com.keyhole.timesheet.benchmark.SeedDataGenerator 5000000 target/seed-5m.sql
+ * </pre>
+ */
+public class SeedDataGenerator {
+
+    static final LocalDate END_DATE = LocalDate.of(2025, 1, 31);
+
+    private static final int ENTRIES_PER_DAY = 3;
+    private static final int BATCH_SIZE = 1000;
+    // Keeps Hibernate's pooled sequence allocation clear of the explicit ids written here
+    private static final int SEQUENCE_HEADROOM = 100;
+    private static final String[] DEPARTMENTS = {"Engineering", "Design", "Operations", "Sales"};
+    private static final String[] DESCRIPTIONS = {
+            "Backend API development", "Portal design review", "UI wireframes", "Data migration scripts",
+            "Code review", "Sprint planning", "Production support", "Client meeting"
+    };
+
+    private final int employees;
+    private final int projects;
+    private final int entries;
+    private final long seed;
+
+    public SeedDataGenerator(int entries) {
+        this(Math.max(3, entries / 1000), Math.max(3, Math.min(200, entries / 5000)), entries, 42L);
+    }
+
+    public SeedDataGenerator(int employees, int projects, int entries, long seed) {
+        if (employees < 1 || projects < 1 || entries < 0) {
+            throw new IllegalArgumentException("Employees and projects must be positive and entries non-negative");
+        }
+        this.employees = employees;
+        this.projects = projects;
+        this.entries = entries;
+        this.seed = seed;
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public int getProjects() {
+        return projects;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    /**
+     * Loads the data set into an empty schema created by Hibernate, then rebuilds the
+     * daily hours rollup and moves the id generators past the inserted rows.
+     */
+    public void populate(DataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= employees; i++) {
+            batch.add(employee(i));
+        }
+        jdbc.batchUpdate("INSERT INTO employees (id, first_name, last_name, email, department) VALUES (?, ?, ?, ?, ?)",
+                batch);
+
+        batch.clear();
+        for (int i = 1; i <= projects; i++) {
+            batch.add(project(i));
+        }
+        jdbc.batchUpdate("INSERT INTO projects (id, name, code, description, active) VALUES (?, ?, ?, ?, ?)", batch);
+
+        batch.clear();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 1; i <= entries; i++) {
+            Object[] row = timeEntry(i, random);
+            row[3] = Date.valueOf((LocalDate) row[3]);
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                insertTimeEntries(jdbc, batch);
+            }
+        }
+        insertTimeEntries(jdbc, batch);
+
+        for (String statement : finishingStatements()) {
+            jdbc.execute(statement);
+        }
+    }
+
+    /**
+     * Writes the data set as a {@code data.sql}-style script.
+     */
+    public void writeSql(Writer out) {
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("-- Generated by SeedDataGenerator: " + employees + " employees, " + projects
+                + " projects, " + entries + " time entries (seed " + seed + ")");
+        for (int i = 1; i <= employees; i++) {
+            Object[] row = employee(i);
+            writer.printf("INSERT INTO employees (id, first_name, last_name, email, department) "
+                    + "VALUES (%d, '%s', '%s', '%s', '%s');%n", row);
+        }
+        for (int i = 1; i <= projects; i++) {
+            Object[] row = project(i);
+            writer.printf("INSERT INTO projects (id, name, code, description, active) "
+                    + "VALUES (%d, '%s', '%s', '%s', %s);%n", row);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 1; i <= entries; i++) {
+            Object[] row = timeEntry(i, random);
+            writer.printf("INSERT INTO time_entries (id, employee_id, project_id, date, quarter_hours, description) "
+                    + "VALUES (%d, %d, %d, '%s', %d, '%s');%n", row);
+        }
+        for (String statement : finishingStatements()) {
+            writer.println(statement + ";");
+        }
+        writer.flush();
+    }
+
+    private Object[] employee(int id) {
+        return new Object[]{(long) id, "Employee", "No" + id, "employee" + id + "@keyhole.com",
+                DEPARTMENTS[id % DEPARTMENTS.length]};
+    }
+
+    private Object[] project(int id) {
+        // Roughly one in ten projects is inactive, like 'Legacy Migration' in the seed data
+        return new Object[]{(long) id, "Project " + id, "P" + id, "Generated project " + id, id % 10 != 0};
+    }
+
+    // Entry ids run employee-major within each day so every employee gets ENTRIES_PER_DAY entries
+    // per working day, newest first
+    private Object[] timeEntry(int id, SplittableRandom random) {
+        int index = id - 1;
+        long employeeId = index / ENTRIES_PER_DAY % employees + 1;
+        int workingDay = index / (ENTRIES_PER_DAY * employees);
+        long projectId = random.nextInt(projects) + 1;
+        // 0.25 to 7.75 hours, so a full day still leaves room for one more entry
+        int quarterHours = random.nextInt(31) + 1;
+        String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+        return new Object[]{(long) id, employeeId, projectId, workingDate(workingDay), quarterHours, description};
+    }
+
+    private static LocalDate workingDate(int workingDay) {
+        int weeks = workingDay / 5;
+        LocalDate friday = END_DATE.minusDays((END_DATE.getDayOfWeek().getValue() + 2) % 7);
+        return friday.minusWeeks(weeks).minusDays(workingDay % 5);
+    }
+
+    private static void insertTimeEntries(JdbcTemplate jdbc, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO time_entries (id, employee_id, project_id, date, quarter_hours, description) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private List<String> finishingStatements() {
+        return List.of(
+                "ALTER TABLE employees ALTER COLUMN id RESTART WITH " + (employees + 1),
+                "ALTER TABLE projects ALTER COLUMN id RESTART WITH " + (projects + 1),
+                "ALTER SEQUENCE time_entries_seq RESTART WITH " + Math.max(1000, entries + SEQUENCE_HEADROOM),
+                "INSERT INTO daily_hours (employee_id, project_id, date, total_quarter_hours) "
+                        + "SELECT employee_id, project_id, date, SUM(quarter_hours) FROM time_entries "
+                        + "GROUP BY employee_id, project_id, date");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: SeedDataGenerator <time-entries> [output.sql]");
+            System.exit(1);
+        }
+        SeedDataGenerator generator = new SeedDataGenerator(Integer.parseInt(args[0]));
+        if (args.length == 2) {
+            try (Writer out = Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.UTF_8)) {
+                generator.writeSql(out);
+            }
+        } else {
+            generator.writeSql(new PrintWriter(System.out));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.keyhole.timesheet.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a {@code GET /api/v1/time-entries} response body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    private ObjectMapper objectMapper;
+    private List<TimeEntryResponse> responses;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the MVC message converter (ISO dates, java.time module)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responses = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            responses.add(TimeEntryResponse.builder()
+                    .id((long) i)
+                    .employeeId((long) (i % 500 + 1))
+                    .employeeName("Employee No" + (i % 500 + 1))
+                    .projectId((long) (i % 50 + 1))
+                    .projectName("Project " + (i % 50 + 1))
+                    .date(SeedDataGenerator.END_DATE.minusDays(i % 365))
+                    .hours(BigDecimal.valueOf(i % 32 + 1).multiply(new BigDecimal("0.25")))
+                    .description("Backend API development")
+                    .build());
+        }
+        buffer = new ByteArrayOutputStream(rows * 200);
+    }
+
+    @Benchmark
+    public int serializeList() throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, responses);
+        return buffer.size();
+    }
+}
@@ -0,0 +1,164 @@
+package com.keyhole.timesheet.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test comparing the default platform-thread Tomcat pool with the
+ * {@code virtual-threads} profile (virtual threads plus the database bulkhead).
+ * Each client loops over a Monday-morning mix: entry submissions, an employee's month of
+ * entries and their weekly summary. Reports throughput, tail latency and status counts.
+ * <pre>
+ * ./mvnw -Pbenchmark -DskipTests test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.keyhole.timesheet.benchmark.ThreadModeLoadTest \
+ *     -Dexec.args="[clients=1000] [seconds=20] [entries=100000]"
+ * </pre>
+ */
+public class ThreadModeLoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 20);
+        int entries = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("platform", clients, duration, entries));
+        results.add(run("virtual-threads", clients, duration, entries, "--spring.profiles.active=virtual-threads"));
+
+        System.out.printf("%n%d clients, %ds per mode, %d seeded entries%n", clients, duration.toSeconds(), entries);
+        System.out.printf("%-16s %10s %9s %9s %9s %9s  %s%n", "mode", "req/s", "p50 ms", "p95 ms", "p99 ms",
+                "max ms", "statuses");
+        for (Result result : results) {
+            System.out.printf("%-16s %10.0f %9.1f %9.1f %9.1f %9.1f  %s%n", result.mode(), result.throughput(),
+                    result.percentile(50), result.percentile(95), result.percentile(99), result.percentile(100),
+                    result.statuses());
+        }
+    }
+
+    private static Result run(String mode, int clients, Duration duration, int entries, String... args)
+            throws Exception {
+        try (ConfigurableApplicationContext context = BenchmarkContext.startServer(entries, args)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            int employees = new SeedDataGenerator(entries).getEmployees();
+            drive(baseUrl, clients, WARMUP, employees);
+            return drive(baseUrl, clients, duration, employees).withMode(mode);
+        }
+    }
+
+    private static Result drive(String baseUrl, int clients, Duration duration, int employees) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LatencyRecorder latencies = new LatencyRecorder();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = nextRequest(baseUrl, employees);
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        latencies.record(System.nanoTime() - start);
+                        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    }
+                    return null;
+                });
+            }
+        }
+        return new Result(null, latencies.snapshot(), duration, statuses);
+    }
+
+    private static HttpRequest nextRequest(String baseUrl, int employees) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long employeeId = random.nextInt(employees) + 1;
+        int kind = random.nextInt(10);
+        if (kind < 4) {
+            // Quarter-hour entries on days before the generated range keep clear of the daily limit
+            LocalDate date = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1000));
+            String body = "{\"employeeId\":" + employeeId + ",\"projectId\":1,\"date\":\"" + date
+                    + "\",\"hours\":0.25,\"description\":\"Load test\"}";
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/time-entries"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        if (kind < 8) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/time-entries?employeeId=" + employeeId
+                    + "&startDate=2025-01-01&endDate=2025-01-31")).GET().build();
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/summaries/weekly?employeeId=" + employeeId
+                + "&week=2025-01-27")).GET().build();
+    }
+
+    // Millisecond-resolution histogram up to 60 s; good enough for percentiles at this scale
+    private static final class LatencyRecorder {
+        private static final int BUCKETS = 60_000;
+        private final AtomicLong[] counts = new AtomicLong[BUCKETS + 1];
+
+        LatencyRecorder() {
+            Arrays.setAll(counts, i -> new AtomicLong());
+        }
+
+        void record(long nanos) {
+            int millis = (int) Math.min(BUCKETS, nanos / 1_000_000);
+            counts[millis].incrementAndGet();
+        }
+
+        long[] snapshot() {
+            return Arrays.stream(counts).mapToLong(AtomicLong::get).toArray();
+        }
+    }
+
+    private record Result(String mode, long[] histogram, Duration duration, Map<Integer, LongAdder> statuses) {
+
+        Result withMode(String mode) {
+            return new Result(mode, histogram, duration, statuses);
+        }
+
+        long total() {
+            return Arrays.stream(histogram).sum();
+        }
+
+        double throughput() {
+            return total() / (duration.toMillis() / 1000.0);
+        }
+
+        double percentile(double percentile) {
+            long target = (long) Math.ceil(total() * percentile / 100.0);
+            long seen = 0;
+            for (int millis = 0; millis < histogram.length; millis++) {
+                seen += histogram[millis];
+                if (seen >= target && histogram[millis] > 0) {
+                    return millis + 1;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.benchmark.BenchmarkContext;
+import com.keyhole.timesheet.dto.ProjectResponse;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.entity.Employee;
+import com.keyhole.timesheet.entity.TimeEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.AopTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request costs on the time entry write path: the stateless request rules,
+ * the full business rules including the daily rollup lookup, and response mapping.
+ * Lives in the service package to reach the package-private methods directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeEntryServiceBenchmark {
+
+    @Param({"100000"})
+    int entries;
+
+    private ConfigurableApplicationContext context;
+    private TimeEntryService timeEntryService;
+    private TimeEntryRequest request;
+    private TimeEntry entry;
+    private ProjectResponse project;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(entries);
+        // Bypass the metrics proxy so only the method body is measured
+        timeEntryService = AopTestUtils.getUltimateTargetObject(context.getBean(TimeEntryService.class));
+
+        // A day with existing entries, and hours that keep the total under 24
+        request = TimeEntryRequest.builder()
+                .employeeId(1L)
+                .projectId(1L)
+                .date(LocalDate.of(2025, 1, 31))
+                .hours(new BigDecimal("0.25"))
+                .description("Backend API development")
+                .build();
+
+        Employee employee = Employee.builder().id(1L).firstName("John").lastName("Doe").build();
+        project = ProjectResponse.builder().id(1L).name("Timesheet App").code("TSA").active(true).build();
+        entry = TimeEntry.builder()
+                .id(1L)
+                .employee(employee)
+                .date(request.getDate())
+                .quarterHours(32)
+                .description("Backend API development")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int validateRequestRules() {
+        return timeEntryService.validateRequestRules(request);
+    }
+
+    @Benchmark
+    public int validateBusinessRules() {
+        return timeEntryService.validateBusinessRules(request, null);
+    }
+
+    @Benchmark
+    public TimeEntryResponse toResponse() {
+        return timeEntryService.toResponse(entry, project);
+    }
+}
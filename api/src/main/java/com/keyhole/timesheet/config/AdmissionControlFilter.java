@@ -0,0 +1,170 @@
+package com.keyhole.timesheet.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control in front of the controllers. Each {@link TrafficClass} gets its own
+ * {@link AdmissionLimiter}, so a payroll listing or report can only queue behind other bulk
+ * traffic, never in front of an employee's submission. Requests that cannot be admitted within
+ * {@code timesheet.admission.queue-timeout} are shed with 503 and Retry-After. Interactive
+ * requests that run slow or fail also back off the bulk limit, handing its capacity back to them.
+ * <p>
+ * Streaming responses hold their slot until the async request completes, but only their errors
+ * feed the limit: a long export says nothing about congestion.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "timesheet.admission.enabled", havingValue = "true")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String CHANGE_FEED = "/api/v1/time-entries/changes";
+
+    private final Map<TrafficClass, AdmissionLimiter> limiters = new EnumMap<>(TrafficClass.class);
+    private final Map<TrafficClass, Counter> rejections = new EnumMap<>(TrafficClass.class);
+    private final long queueTimeoutNanos;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(@Value("${timesheet.admission.queue-timeout}") Duration queueTimeout,
+                                  Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.objectMapper = objectMapper;
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            AdmissionLimiter limiter = new AdmissionLimiter(
+                    environment.getRequiredProperty(trafficClass.property("max-limit"), Integer.class),
+                    environment.getRequiredProperty(trafficClass.property("queue-size"), Integer.class),
+                    environment.getRequiredProperty(trafficClass.property("latency-threshold"), Duration.class)
+                            .toNanos());
+            limiters.put(trafficClass, limiter);
+            rejections.put(trafficClass, meterRegistry.counter("timesheet.admission.rejections",
+                    "class", trafficClass.tag()));
+            Gauge.builder("timesheet.admission.limit", limiter, AdmissionLimiter::limit)
+                    .tag("class", trafficClass.tag())
+                    .register(meterRegistry);
+            Gauge.builder("timesheet.admission.in-flight", limiter, AdmissionLimiter::inFlight)
+                    .tag("class", trafficClass.tag())
+                    .register(meterRegistry);
+            Gauge.builder("timesheet.admission.waiting", limiter, AdmissionLimiter::waiting)
+                    .tag("class", trafficClass.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // The change feed holds its connection open for as long as the client listens
+        return !path.startsWith("/api/") || path.equals(CHANGE_FEED);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        TrafficClass trafficClass = TrafficClass.of(request);
+        AdmissionLimiter limiter = limiters.get(trafficClass);
+        if (!admit(limiter)) {
+            rejections.get(trafficClass).increment();
+            reject(response, trafficClass);
+            return;
+        }
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(trafficClass));
+            } else {
+                release(trafficClass, System.nanoTime() - started, failed);
+            }
+        }
+    }
+
+    AdmissionLimiter limiter(TrafficClass trafficClass) {
+        return limiters.get(trafficClass);
+    }
+
+    private boolean admit(AdmissionLimiter limiter) {
+        try {
+            return limiter.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void release(TrafficClass trafficClass, long latencyNanos, boolean failed) {
+        boolean overloaded = limiters.get(trafficClass).release(latencyNanos, failed);
+        if (overloaded && trafficClass != TrafficClass.BULK) {
+            limiters.get(TrafficClass.BULK).backOff();
+        }
+    }
+
+    private void reject(HttpServletResponse response, TrafficClass trafficClass) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(trafficClass.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", "Server is busy, please retry"));
+    }
+
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        private final TrafficClass trafficClass;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnCompletion(TrafficClass trafficClass) {
+            this.trafficClass = trafficClass;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                AdmissionControlFilter.this.release(trafficClass, 0, failed);
+            }
+        }
+    }
+}
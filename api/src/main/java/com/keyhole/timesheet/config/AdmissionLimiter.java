@@ -0,0 +1,104 @@
+package com.keyhole.timesheet.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adjusted by AIMD: every request that completes under the latency threshold
+ * while the limit was fully used raises it by one, every slow or failed request multiplies it by
+ * {@link #BACKOFF_RATIO}. Requests over the limit wait in a bounded queue for a slot.
+ */
+final class AdmissionLimiter {
+
+    static final double BACKOFF_RATIO = 0.9;
+    private static final int MIN_LIMIT = 1;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private final int maxLimit;
+    private final int queueSize;
+    private final long latencyThresholdNanos;
+
+    // Volatile for the gauges; only changed under the lock
+    private volatile double limit;
+    private volatile int inFlight;
+    private volatile int waiting;
+
+    AdmissionLimiter(int maxLimit, int queueSize, long latencyThresholdNanos) {
+        this.maxLimit = Math.max(MIN_LIMIT, maxLimit);
+        this.queueSize = queueSize;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.max(MIN_LIMIT, this.maxLimit / 2);
+    }
+
+    // False when the queue is full or no slot frees up within the timeout
+    boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < limit()) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= queueSize) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remaining = unit.toNanos(timeout);
+                while (inFlight >= limit()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns true when the request counted as overload and the limit backed off
+    boolean release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= limit();
+            inFlight--;
+            boolean overloaded = failed || latencyNanos > latencyThresholdNanos;
+            if (overloaded) {
+                backOff();
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            released.signalAll();
+            return overloaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void backOff() {
+        lock.lock();
+        try {
+            limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight;
+    }
+
+    int waiting() {
+        return waiting;
+    }
+}
@@ -0,0 +1,22 @@
+package com.keyhole.timesheet.config;
+
+import com.keyhole.timesheet.service.TimeEntryArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timesheet.archive.enabled", havingValue = "true")
+public class ArchiveSchedulingConfig {
+
+    private final TimeEntryArchiveService timeEntryArchiveService;
+
+    @Scheduled(cron = "${timesheet.archive.cron}")
+    public void archive() {
+        timeEntryArchiveService.archive();
+    }
+}
@@ -0,0 +1,22 @@
+package com.keyhole.timesheet.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine-backed caches for reference data and closed-month project rollups. Size, TTL and stats recording are set
+ * through {@code spring.cache.caffeine.spec}; hit/miss/eviction metrics are published
+ * by actuator for every cache listed in {@code spring.cache.cache-names}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String PROJECTS = "projects";
+    public static final String PROJECT_MONTHS = "project-months";
+
+    // Condition for @Cacheable(unless): a load that joined a replica-routed transaction may be stale
+    public static final String UNLESS_REPLICA_READ =
+            "T(com.keyhole.timesheet.config.ReadWriteRoutingDataSource).isReplicaTransaction()";
+}
@@ -0,0 +1,199 @@
+package com.keyhole.timesheet.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Makes {@code server.compression.min-response-size} apply to message-converter responses.
+ * Tomcat only honours the threshold when Content-Length is known, and Jackson streams bodies
+ * without one, so every JSON response would otherwise be gzipped. Bodies are held back until
+ * they reach the threshold: small ones go out with a Content-Length (and uncompressed), larger
+ * ones are streamed as before. Async responses (exports, SSE) switch to streaming as soon as
+ * the handler returns.
+ */
+@Component
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize minResponseSize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding == null || !acceptEncoding.contains("gzip");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ThresholdResponse wrapped = new ThresholdResponse(response, (int) minResponseSize.toBytes());
+        chain.doFilter(request, wrapped);
+        if (request.isAsyncStarted()) {
+            wrapped.stream();
+        } else {
+            wrapped.finish();
+        }
+    }
+
+    private static final class ThresholdResponse extends HttpServletResponseWrapper {
+
+        private final int threshold;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        ThresholdResponse(HttpServletResponse response, int threshold) {
+            super(response);
+            this.threshold = threshold;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ThresholdOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stream();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (buffer != null) {
+                buffer.reset();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            if (buffer != null) {
+                buffer.reset();
+            }
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            resetBuffer();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            resetBuffer();
+            super.sendError(sc);
+        }
+
+        // Body complete and still under the threshold: send it with its length
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (buffer == null) {
+                return;
+            }
+            if (buffer.size() > 0 && !isCommitted()) {
+                setContentLength(buffer.size());
+            }
+            stream();
+        }
+
+        // From here on writes go straight to the container, which compresses them
+        void stream() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (buffer == null) {
+                return;
+            }
+            ByteArrayOutputStream pending = buffer;
+            buffer = null;
+            if (pending.size() > 0) {
+                pending.writeTo(getResponse().getOutputStream());
+            }
+        }
+
+        private final class ThresholdOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                if (buffer == null) {
+                    getResponse().getOutputStream().write(b);
+                    return;
+                }
+                buffer.write(b);
+                if (buffer.size() >= threshold) {
+                    stream();
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (buffer == null) {
+                    getResponse().getOutputStream().write(b, off, len);
+                    return;
+                }
+                buffer.write(b, off, len);
+                if (buffer.size() >= threshold) {
+                    stream();
+                }
+            }
+
+            // Converters flush at the end of every body; only a flush once streaming reaches the client
+            @Override
+            public void flush() throws IOException {
+                if (buffer == null) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return buffer != null || getResponseStream().isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                getResponseStream().setWriteListener(listener);
+            }
+
+            private ServletOutputStream getResponseStream() {
+                try {
+                    return getResponse().getOutputStream();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
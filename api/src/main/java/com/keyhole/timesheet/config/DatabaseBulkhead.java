@@ -0,0 +1,90 @@
+package com.keyhole.timesheet.config;
+
+import com.keyhole.timesheet.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of service-layer transactions in flight at the size of the connection pool.
+ * With virtual threads every request gets its own thread, so without this thousands of them
+ * would queue inside Hikari and time out there; here they wait on a fair semaphore instead and
+ * fail fast with 503 once {@code timesheet.bulkhead.acquire-timeout} passes.
+ * <p>
+ * Runs outside the transaction interceptor so a permit is held before a connection is borrowed.
+ * Nested transactional calls on the same thread reuse the outer permit.
+ */
+@Aspect
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "timesheet.bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkhead {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejections;
+
+    public DatabaseBulkhead(@Value("${timesheet.bulkhead.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+                            @Value("${timesheet.bulkhead.acquire-timeout:5s}") Duration acquireTimeout,
+                            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.rejections = meterRegistry.counter("timesheet.bulkhead.rejections");
+        Gauge.builder("timesheet.bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("timesheet.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional) "
+            + "&& within(com.keyhole.timesheet.service..*)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        int depth = DEPTH.get();
+        if (depth > 0) {
+            return proceedNested(joinPoint, depth);
+        }
+        acquire();
+        try {
+            return proceedNested(joinPoint, depth);
+        } finally {
+            permits.release();
+        }
+    }
+
+    Semaphore permits() {
+        return permits;
+    }
+
+    private void acquire() throws InterruptedException {
+        if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            rejections.increment();
+            throw new DatabaseBusyException("Server is busy, please retry");
+        }
+    }
+
+    private Object proceedNested(ProceedingJoinPoint joinPoint, int depth) throws Throwable {
+        DEPTH.set(depth + 1);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.keyhole.timesheet.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adds {@code X-Query-Count} to every response body written by a controller, so N+1 regressions
+ * show up in the browser's network tab. The count lives in a request attribute and is written
+ * just before the body, after the service call has finished. Off in the prod profile.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "timesheet.query-log.count-header", havingValue = "true")
+public class QueryCountAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final String ATTRIBUTE = QueryCountAdvice.class.getName() + ".count";
+
+    static void increment() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        AtomicInteger count = (AtomicInteger) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (count == null) {
+            count = new AtomicInteger();
+            attributes.setAttribute(ATTRIBUTE, count, RequestAttributes.SCOPE_REQUEST);
+        }
+        count.incrementAndGet();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        AtomicInteger count = attributes == null ? null
+                : (AtomicInteger) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        response.getHeaders().set(HEADER, String.valueOf(count == null ? 0 : count.get()));
+        return body;
+    }
+}
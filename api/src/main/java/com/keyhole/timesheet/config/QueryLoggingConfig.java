@@ -0,0 +1,47 @@
+package com.keyhole.timesheet.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application's {@link DataSource} in a datasource-proxy so every statement passes
+ * through {@link SlowQueryListener}. Replaces {@code spring.jpa.show-sql}: only statements slower
+ * than {@code timesheet.query-log.slow-threshold} are logged, and the per-request count behind
+ * {@link QueryCountAdvice} is kept only when {@code timesheet.query-log.count-header} is on.
+ * With replica routing only the physical pools are wrapped, so each statement is counted once.
+ */
+@Configuration
+public class QueryLoggingConfig {
+
+    // Static so the post-processor is registered before the DataSource bean is created
+    @Bean
+    static BeanPostProcessor queryLoggingDataSourcePostProcessor(Environment environment) {
+        Binder binder = Binder.get(environment);
+        Duration threshold = binder.bind("timesheet.query-log.slow-threshold", Duration.class)
+                .orElse(Duration.ofMillis(200));
+        boolean countPerRequest = binder.bind("timesheet.query-log.count-header", Boolean.class).orElse(false);
+        SlowQueryListener listener = new SlowQueryListener(threshold, countPerRequest);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
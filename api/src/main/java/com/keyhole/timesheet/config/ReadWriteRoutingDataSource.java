@@ -0,0 +1,84 @@
+package com.keyhole.timesheet.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else (writes,
+ * schema setup, work outside a transaction) to the primary. A request can pin its reads to the
+ * primary with {@link #pinToPrimary()}, which {@link ReadYourWritesFilter} does for clients
+ * that wrote within the read-your-writes window.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only flag is
+ * only set after the transaction manager asks for a connection.
+ * <p>
+ * Replica reads may lag the primary by up to the read-your-writes window. Caches must not be
+ * refilled from them right after an eviction, see {@link #isReplicaTransaction()}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+    private static final Object REPLICA_TRANSACTION = new Object();
+
+    private final Counter primaryConnections;
+    private final Counter pinnedConnections;
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryConnections = meterRegistry.counter("timesheet.datasource.connections", "route", "primary");
+        this.pinnedConnections = meterRegistry.counter("timesheet.datasource.connections", "route", "primary-pinned");
+        this.replicaConnections = meterRegistry.counter("timesheet.datasource.connections", "route", "replica");
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    // True once the current transaction has taken a replica connection, so what it read may be stale
+    public static boolean isReplicaTransaction() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_TRANSACTION);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.increment();
+            return PRIMARY;
+        }
+        if (PINNED.get() != null) {
+            pinnedConnections.increment();
+            return PRIMARY;
+        }
+        replicaConnections.increment();
+        markReplicaTransaction();
+        return REPLICA;
+    }
+
+    private static void markReplicaTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isReplicaTransaction()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_TRANSACTION, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_TRANSACTION);
+            }
+        });
+    }
+}
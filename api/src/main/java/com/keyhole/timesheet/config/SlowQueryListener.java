@@ -0,0 +1,144 @@
+package com.keyhole.timesheet.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs statements at or above the threshold as one JSON object per line on the
+ * {@code timesheet.slow-query} logger, which logback-spring.xml hands to an async appender.
+ * The calling service and repository methods are read off the stack, and only for slow
+ * statements, so fast ones cost a clock read and a counter bump.
+ */
+class SlowQueryListener implements QueryExecutionListener {
+
+    static final String LOGGER_NAME = "timesheet.slow-query";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final StackWalker STACK = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final String APP_PACKAGE = "com.keyhole.timesheet.";
+    private static final String REPOSITORY_PACKAGE = APP_PACKAGE + "repository.";
+    private static final String CONFIG_PACKAGE = APP_PACKAGE + "config.";
+    // Bind parameters of large batches are cut off after this many rows
+    private static final int MAX_PARAMETER_ROWS = 10;
+
+    private final long thresholdMillis;
+    private final boolean countPerRequest;
+
+    SlowQueryListener(Duration threshold, boolean countPerRequest) {
+        this.thresholdMillis = threshold.toMillis();
+        this.countPerRequest = countPerRequest;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (countPerRequest) {
+            QueryCountAdvice.increment();
+        }
+        if (execInfo.getElapsedTime() < thresholdMillis || !log.isInfoEnabled()) {
+            return;
+        }
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("time", Instant.now().toString());
+        entry.put("durationMs", execInfo.getElapsedTime());
+        entry.put("thresholdMs", thresholdMillis);
+        entry.put("success", execInfo.isSuccess());
+        entry.put("thread", Thread.currentThread().getName());
+        addCallers(entry);
+        if (execInfo.isBatch()) {
+            entry.put("batchSize", execInfo.getBatchSize());
+        }
+        List<Map<String, Object>> queries = new ArrayList<>(queryInfoList.size());
+        for (QueryInfo queryInfo : queryInfoList) {
+            Map<String, Object> query = new LinkedHashMap<>();
+            query.put("sql", queryInfo.getQuery());
+            query.put("params", parameters(queryInfo));
+            queries.add(query);
+        }
+        entry.put("queries", queries);
+        try {
+            log.info(JSON.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize slow query entry", e);
+        }
+    }
+
+    // Innermost repository method (a custom implementation or the Spring Data proxy) and the first application frame above it
+    private static void addCallers(Map<String, Object> entry) {
+        STACK.walk(frames -> {
+            String repository = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> type = frame.getDeclaringClass();
+                String name = type.getName();
+                if (Proxy.isProxyClass(type) && Repository.class.isAssignableFrom(type)) {
+                    if (repository == null) {
+                        repository = repositoryName(type) + "." + frame.getMethodName();
+                    }
+                } else if (name.startsWith(REPOSITORY_PACKAGE)) {
+                    if (repository == null) {
+                        repository = type.getSimpleName() + "." + frame.getMethodName();
+                    }
+                } else if (name.startsWith(APP_PACKAGE) && !name.startsWith(CONFIG_PACKAGE)) {
+                    entry.put("caller", type.getSimpleName() + "." + frame.getMethodName());
+                    break;
+                }
+            }
+            entry.put("repository", repository);
+            return null;
+        });
+    }
+
+    private static String repositoryName(Class<?> proxyType) {
+        for (Class<?> type : proxyType.getInterfaces()) {
+            if (type.getName().startsWith(APP_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return "Repository";
+    }
+
+    private static List<List<Object>> parameters(QueryInfo queryInfo) {
+        List<List<Object>> rows = new ArrayList<>();
+        for (List<ParameterSetOperation> operations : queryInfo.getParametersList()) {
+            if (rows.size() == MAX_PARAMETER_ROWS) {
+                break;
+            }
+            List<Object> row = new ArrayList<>(operations.size());
+            operations.stream()
+                    .sorted(Comparator.comparingInt(operation ->
+                            operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE))
+                    .forEach(operation -> row.add(value(operation)));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Object value(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+            return null;
+        }
+        Object value = args[1];
+        return value instanceof Number || value instanceof Boolean ? value : String.valueOf(value);
+    }
+}
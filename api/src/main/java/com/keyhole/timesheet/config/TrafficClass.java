@@ -0,0 +1,64 @@
+package com.keyhole.timesheet.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * Admission classes, each with its own adaptive concurrency limit and wait queue.
+ * Reads without an employee (payroll-style listings and exports), batch writes and reports
+ * are {@link #BULK} so they can never take capacity from an employee's own requests.
+ */
+enum TrafficClass {
+
+    INTERACTIVE_WRITE("interactive-write", "write", 1),
+    INTERACTIVE_READ("interactive-read", "read", 1),
+    BULK("bulk", "bulk", 5);
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+    private static final List<String> EMPLOYEE_SCOPED_LISTS = List.of(
+            "/api/v1/time-entries", "/api/v1/time-entries/export");
+    private static final List<String> BULK_PATHS = List.of(
+            "/api/v1/time-entries/bulk",
+            "/api/v1/summaries/weekly/pivot",
+            "/api/v1/projects/*/hours",
+            "/api/v1/projects/*/contributors",
+            "/api/v1/analytics/**",
+            "/api/v1/payroll/**");
+
+    private final String tag;
+    private final String propertyPrefix;
+    private final int retryAfterSeconds;
+
+    TrafficClass(String tag, String propertyPrefix, int retryAfterSeconds) {
+        this.tag = tag;
+        this.propertyPrefix = propertyPrefix;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    String tag() {
+        return tag;
+    }
+
+    String property(String name) {
+        return "timesheet.admission." + propertyPrefix + "." + name;
+    }
+
+    int retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    static TrafficClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean read = HttpMethod.GET.matches(request.getMethod());
+        if (read && EMPLOYEE_SCOPED_LISTS.contains(path) && request.getParameter("employeeId") == null) {
+            return BULK;
+        }
+        if (BULK_PATHS.stream().anyMatch(pattern -> PATHS.match(pattern, path))) {
+            return BULK;
+        }
+        return read ? INTERACTIVE_READ : INTERACTIVE_WRITE;
+    }
+}
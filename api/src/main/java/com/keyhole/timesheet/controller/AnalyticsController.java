@@ -0,0 +1,54 @@
+package com.keyhole.timesheet.controller;
+
+import com.keyhole.timesheet.dto.HoursBreakdownResponse;
+import com.keyhole.timesheet.service.AnalyticsDimension;
+import com.keyhole.timesheet.service.AnalyticsFilter;
+import com.keyhole.timesheet.service.TimeEntryAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timesheet.analytics.enabled", havingValue = "true")
+@Tag(name = "Analytics", description = "In-memory ad-hoc hour breakdowns")
+public class AnalyticsController {
+
+    private final TimeEntryAnalyticsService timeEntryAnalyticsService;
+
+    @GetMapping("/hours")
+    @Operation(summary = "Sum hours grouped by any of employee, project, department, year, month and day",
+            description = "Keys are employee ids, project codes, department names and ISO periods, "
+                    + "in groupBy order. Repeat employeeId, projectId or department to match any of several.")
+    @ApiResponse(responseCode = "200", description = "Breakdown returned")
+    @ApiResponse(responseCode = "400", description = "Unknown or repeated dimension, or invalid date range")
+    public HoursBreakdownResponse hours(
+            @RequestParam(required = false) List<String> groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) List<Long> employeeId,
+            @RequestParam(required = false) List<Long> projectId,
+            @RequestParam(required = false) List<String> department) {
+        List<AnalyticsDimension> dimensions = groupBy == null ? List.of()
+                : groupBy.stream().map(AnalyticsDimension::from).toList();
+        AnalyticsFilter filter = AnalyticsFilter.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .employeeIds(employeeId)
+                .projectIds(projectId)
+                .departments(department)
+                .build();
+        return timeEntryAnalyticsService.breakdown(dimensions, filter);
+    }
+}
@@ -3,12 +3,14 @@ package com.keyhole.timesheet.controller;
 import com.keyhole.timesheet.dto.EmployeeRequest;
 import com.keyhole.timesheet.dto.EmployeeResponse;
 import com.keyhole.timesheet.service.EmployeeService;
+import com.keyhole.timesheet.service.ReferenceDataVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,11 +30,14 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final ReferenceDataVersions referenceDataVersions;
 
     @GetMapping
     @Operation(summary = "Get all employees")
-    public List<EmployeeResponse> getAll() {
-        return employeeService.findAll();
+    @ApiResponse(responseCode = "200", description = "Employees returned with an ETag")
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match")
+    public ResponseEntity<List<EmployeeResponse>> getAll(WebRequest request) {
+        return ConditionalGet.respond(request, referenceDataVersions.employeesETag(), employeeService::findAll);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,66 @@
+package com.keyhole.timesheet.controller;
+
+import com.keyhole.timesheet.dto.PayrollCloseResponse;
+import com.keyhole.timesheet.dto.PayrollSummaryResponse;
+import com.keyhole.timesheet.service.PayrollCloseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/payroll/closes")
+@RequiredArgsConstructor
+@Tag(name = "Payroll", description = "Pay period close endpoints")
+public class PayrollController {
+
+    private final PayrollCloseService payrollCloseService;
+
+    @PostMapping
+    @Operation(summary = "Close a pay period, or resume a close that failed or was interrupted")
+    @ApiResponse(responseCode = "200", description = "Pay period already closed")
+    @ApiResponse(responseCode = "202", description = "Close running; poll the Location header")
+    @ApiResponse(responseCode = "400", description = "Invalid or too long pay period")
+    public ResponseEntity<PayrollCloseResponse> close(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        PayrollCloseResponse close = payrollCloseService.close(startDate, endDate);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/payroll/closes/{id}")
+                .buildAndExpand(close.getId())
+                .toUri();
+        if (PayrollCloseService.COMPLETED.equals(close.getStatus())) {
+            return ResponseEntity.ok().location(location).body(close);
+        }
+        return ResponseEntity.accepted().location(location).body(close);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a pay period close's status and progress")
+    @ApiResponse(responseCode = "200", description = "Close found")
+    @ApiResponse(responseCode = "404", description = "Close not found")
+    public PayrollCloseResponse getById(@PathVariable Long id) {
+        return payrollCloseService.findById(id);
+    }
+
+    @GetMapping("/{id}/summaries")
+    @Operation(summary = "Get per-employee totals, overtime and project splits of a pay period close")
+    @ApiResponse(responseCode = "200", description = "Summaries returned; partial while the close is running")
+    @ApiResponse(responseCode = "404", description = "Close not found")
+    public List<PayrollSummaryResponse> getSummaries(@PathVariable Long id) {
+        return payrollCloseService.findSummaries(id);
+    }
+}
@@ -1,14 +1,21 @@
 package com.keyhole.timesheet.controller;
 
+import com.keyhole.timesheet.dto.ProjectContributorsResponse;
+import com.keyhole.timesheet.dto.ProjectHoursReportResponse;
 import com.keyhole.timesheet.dto.ProjectRequest;
 import com.keyhole.timesheet.dto.ProjectResponse;
+import com.keyhole.timesheet.service.ProjectReportService;
 import com.keyhole.timesheet.service.ProjectService;
+import com.keyhole.timesheet.service.ReferenceDataVersions;
+import com.keyhole.timesheet.service.ReportGranularity;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,7 +25,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -28,11 +37,17 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectReportService projectReportService;
+    private final ReferenceDataVersions referenceDataVersions;
 
     @GetMapping
     @Operation(summary = "Get all projects, optionally filtered by active status")
-    public List<ProjectResponse> getAll(@RequestParam(required = false) Boolean active) {
-        return projectService.findAll(active);
+    @ApiResponse(responseCode = "200", description = "Projects returned with an ETag")
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match")
+    public ResponseEntity<List<ProjectResponse>> getAll(@RequestParam(required = false) Boolean active,
+                                                        WebRequest request) {
+        return ConditionalGet.respond(request, referenceDataVersions.projectsETag(active),
+                () -> projectService.findAll(active));
     }
 
     @GetMapping("/{id}")
@@ -60,4 +75,29 @@ public class ProjectController {
     public ProjectResponse update(@PathVariable Long id, @Valid @RequestBody ProjectRequest request) {
         return projectService.update(id, request);
     }
+
+    @GetMapping("/{id}/hours")
+    @Operation(summary = "Get a project's hours per day, week or month with running totals")
+    @ApiResponse(responseCode = "200", description = "Report returned")
+    @ApiResponse(responseCode = "400", description = "Invalid date range or granularity")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    public ProjectHoursReportResponse hours(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "week") String granularity) {
+        return projectReportService.hours(id, startDate, endDate, ReportGranularity.from(granularity));
+    }
+
+    @GetMapping("/{id}/contributors")
+    @Operation(summary = "Get each employee's hours on a project over a date range")
+    @ApiResponse(responseCode = "200", description = "Contributors returned")
+    @ApiResponse(responseCode = "400", description = "Invalid date range")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    public ProjectContributorsResponse contributors(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return projectReportService.contributors(id, startDate, endDate);
+    }
 }
@@ -0,0 +1,48 @@
+package com.keyhole.timesheet.controller;
+
+import com.keyhole.timesheet.dto.WeeklyPivotResponse;
+import com.keyhole.timesheet.dto.WeeklySummaryResponse;
+import com.keyhole.timesheet.service.SummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/summaries")
+@RequiredArgsConstructor
+@Tag(name = "Summaries", description = "Aggregated hours endpoints")
+public class SummaryController {
+
+    private final SummaryService summaryService;
+
+    @GetMapping("/weekly")
+    @Operation(summary = "Get an employee's hours per day and project for the week containing the given date")
+    @ApiResponse(responseCode = "200", description = "Weekly summary found")
+    @ApiResponse(responseCode = "404", description = "Employee not found")
+    public WeeklySummaryResponse weekly(
+            @RequestParam Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week) {
+        return summaryService.weekly(employeeId, week);
+    }
+
+    @GetMapping("/weekly/pivot")
+    @Operation(summary = "Get day-by-project weekly grids for several employees or a whole department")
+    @ApiResponse(responseCode = "200", description = "Pivot returned")
+    @ApiResponse(responseCode = "400", description = "Neither or both of employeeIds and department given, or too many employees")
+    @ApiResponse(responseCode = "404", description = "Employee not found")
+    public WeeklyPivotResponse weeklyPivot(
+            @RequestParam(required = false) List<Long> employeeIds,
+            @RequestParam(required = false) String department,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week) {
+        return summaryService.weeklyPivot(employeeIds, department, week);
+    }
+}
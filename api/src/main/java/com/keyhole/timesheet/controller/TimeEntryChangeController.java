@@ -0,0 +1,98 @@
+package com.keyhole.timesheet.controller;
+
+import com.keyhole.timesheet.dto.TimeEntryChangeResponse;
+import com.keyhole.timesheet.service.TimeEntryChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@RestController
+@RequestMapping("/api/v1/time-entries")
+@RequiredArgsConstructor
+@Tag(name = "Time Entries", description = "Time entry management endpoints")
+public class TimeEntryChangeController {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+
+    private final TimeEntryChangeFeed timeEntryChangeFeed;
+
+    @Value("${timesheet.change-feed.heartbeat}")
+    private Duration heartbeat;
+
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream committed time entry changes as Server-Sent Events",
+            description = "Each 'change' event carries a TimeEntryChangeResponse. Reconnect with Last-Event-ID to "
+                    + "resume; a 'reset' event means changes were missed and the client should re-fetch its list.")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    public SseEmitter changes(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+                              @RequestParam(required = false) Long employeeId) {
+        SseEmitter emitter = new SseEmitter();
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(e -> open.set(false));
+        // One virtual thread per subscriber, so a slow client only ever holds up itself
+        Thread.ofVirtual().name("time-entry-changes").start(() -> stream(emitter, open, lastEventId, employeeId));
+        return emitter;
+    }
+
+    private void stream(SseEmitter emitter, AtomicBoolean open, String lastEventId, Long employeeId) {
+        try {
+            long cursor;
+            OptionalLong resume = lastEventId == null
+                    ? OptionalLong.of(timeEntryChangeFeed.latest())
+                    : timeEntryChangeFeed.resumeAfter(lastEventId);
+            if (resume.isPresent()) {
+                cursor = resume.getAsLong();
+            } else {
+                cursor = timeEntryChangeFeed.latest();
+                sendReset(emitter, cursor);
+            }
+            while (open.get()) {
+                TimeEntryChangeFeed.Batch batch = timeEntryChangeFeed.await(cursor, employeeId, heartbeat);
+                cursor = batch.cursor();
+                if (batch.overrun()) {
+                    sendReset(emitter, cursor);
+                } else if (batch.changes().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                for (TimeEntryChangeResponse change : batch.changes()) {
+                    emitter.send(SseEmitter.event()
+                            .id(change.getEventId())
+                            .name(CHANGE_EVENT)
+                            .data(change, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    private void sendReset(SseEmitter emitter, long cursor) throws IOException {
+        String eventId = timeEntryChangeFeed.eventId(cursor);
+        emitter.send(SseEmitter.event()
+                .id(eventId)
+                .name(RESET_EVENT)
+                .data(Map.of("eventId", eventId), MediaType.APPLICATION_JSON));
+    }
+}
@@ -1,7 +1,13 @@
 package com.keyhole.timesheet.controller;
 
+import com.keyhole.timesheet.dto.BulkTimeEntryResponse;
+import com.keyhole.timesheet.dto.NormalizedTimeEntriesResponse;
+import com.keyhole.timesheet.dto.TimeEntryPageResponse;
 import com.keyhole.timesheet.dto.TimeEntryRequest;
 import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import com.keyhole.timesheet.service.ExportFormat;
+import com.keyhole.timesheet.service.TimeEntryExportService;
 import com.keyhole.timesheet.service.TimeEntryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,7 +15,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -31,6 +41,7 @@ import java.util.List;
 public class TimeEntryController {
 
     private final TimeEntryService timeEntryService;
+    private final TimeEntryExportService timeEntryExportService;
 
     @GetMapping
     @Operation(summary = "Get all time entries with optional filters")
@@ -38,8 +49,63 @@ public class TimeEntryController {
             @RequestParam(required = false) Long employeeId,
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return timeEntryService.findAll(employeeId, projectId, startDate, endDate);
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean activeProject,
+            @RequestParam(required = false) String description) {
+        return timeEntryService.findAll(
+                toFilter(employeeId, projectId, startDate, endDate, activeProject, description));
+    }
+
+    @GetMapping(produces = NormalizedTimeEntriesResponse.MEDIA_TYPE)
+    @Operation(summary = "Get all time entries with employee and project names sent once as dictionaries")
+    public NormalizedTimeEntriesResponse getAllNormalized(
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean activeProject,
+            @RequestParam(required = false) String description) {
+        return timeEntryService.findAllNormalized(
+                toFilter(employeeId, projectId, startDate, endDate, activeProject, description));
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a keyset-paginated page of time entries ordered by date and id")
+    @ApiResponse(responseCode = "200", description = "Page returned; follow 'next' for the following page")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    public TimeEntryPageResponse getPage(
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean activeProject,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return timeEntryService.findPage(
+                toFilter(employeeId, projectId, startDate, endDate, activeProject, description), cursor, size);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream matching time entries as NDJSON or CSV")
+    @ApiResponse(responseCode = "200", description = "Export streamed")
+    @ApiResponse(responseCode = "400", description = "Unsupported export format")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean activeProject,
+            @RequestParam(required = false) String description,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        TimeEntryFilter filter = toFilter(employeeId, projectId, startDate, endDate, activeProject, description);
+        StreamingResponseBody body = out -> timeEntryExportService.export(filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"time-entries." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -59,6 +125,14 @@ public class TimeEntryController {
         return timeEntryService.create(request);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create many time entries at once, reporting the outcome of each item")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results for failures")
+    @ApiResponse(responseCode = "400", description = "Batch exceeds the maximum size")
+    public BulkTimeEntryResponse createAll(@RequestBody List<TimeEntryRequest> requests) {
+        return timeEntryService.createAll(requests);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing time entry")
     @ApiResponse(responseCode = "200", description = "Time entry updated")
@@ -76,4 +150,16 @@ public class TimeEntryController {
     public void delete(@PathVariable Long id) {
         timeEntryService.delete(id);
     }
+
+    private TimeEntryFilter toFilter(Long employeeId, Long projectId, LocalDate startDate, LocalDate endDate,
+                                     Boolean activeProject, String description) {
+        return TimeEntryFilter.builder()
+                .employeeId(employeeId)
+                .projectId(projectId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .activeProject(activeProject)
+                .description(description)
+                .build();
+    }
 }
@@ -0,0 +1,53 @@
+package com.keyhole.timesheet.controller;
+
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.dto.TimeEntrySubmissionResponse;
+import com.keyhole.timesheet.service.TimeEntryIngestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/time-entries")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timesheet.async-ingest.enabled", havingValue = "true")
+@Tag(name = "Time Entries", description = "Time entry management endpoints")
+public class TimeEntrySubmissionController {
+
+    private final TimeEntryIngestService timeEntryIngestService;
+
+    @PostMapping("/async")
+    @Operation(summary = "Queue a time entry for asynchronous creation and return a status resource to poll")
+    @ApiResponse(responseCode = "202", description = "Entry accepted and queued; poll the Location header")
+    @ApiResponse(responseCode = "400", description = "Invalid input")
+    @ApiResponse(responseCode = "429", description = "Queue full, retry after the Retry-After delay")
+    public ResponseEntity<TimeEntrySubmissionResponse> submit(@Valid @RequestBody TimeEntryRequest request) {
+        TimeEntrySubmissionResponse submission = timeEntryIngestService.submit(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/time-entries/submissions/{id}")
+                .buildAndExpand(submission.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(submission);
+    }
+
+    @GetMapping("/submissions/{id}")
+    @Operation(summary = "Get the status of an asynchronously submitted time entry")
+    @ApiResponse(responseCode = "200", description = "Status returned: QUEUED, CREATED or REJECTED")
+    @ApiResponse(responseCode = "404", description = "Submission not found")
+    public TimeEntrySubmissionResponse status(@PathVariable String id) {
+        return timeEntryIngestService.status(id);
+    }
+}
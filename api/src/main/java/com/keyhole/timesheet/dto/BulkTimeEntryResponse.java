@@ -0,0 +1,18 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTimeEntryResponse {
+    private int createdCount;
+    private int failedCount;
+    private List<BulkTimeEntryResult> results;
+}
@@ -0,0 +1,17 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTimeEntryResult {
+    private int index;
+    private boolean created;
+    private TimeEntryResponse entry;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySummaryResponse {
+    private LocalDate date;
+    private List<ProjectHoursResponse> projects;
+    private BigDecimal totalHours;
+}
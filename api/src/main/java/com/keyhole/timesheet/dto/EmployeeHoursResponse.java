@@ -0,0 +1,18 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHoursResponse {
+    private Long employeeId;
+    private String employeeName;
+    private BigDecimal hours;
+}
@@ -0,0 +1,22 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeWeekPivotResponse {
+    private Long employeeId;
+    private String employeeName;
+    // Grid columns in display order, each with its weekly total
+    private List<ProjectHoursResponse> projects;
+    private List<PivotRowResponse> rows;
+    private BigDecimal totalHours;
+}
@@ -0,0 +1,20 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoursBreakdownResponse {
+    private List<String> groupBy;
+    private List<HoursBreakdownRow> rows;
+    private BigDecimal totalHours;
+    private long entries;
+}
@@ -0,0 +1,20 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoursBreakdownRow {
+    // One value per groupBy dimension, in the same order
+    private List<String> key;
+    private BigDecimal hours;
+    private long entries;
+}
@@ -0,0 +1,26 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time entry list with employee and project names sent once in side dictionaries
+ * rather than repeated on every row.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedTimeEntriesResponse {
+
+    public static final String MEDIA_TYPE = "application/vnd.timesheet.normalized+json";
+
+    private List<NormalizedTimeEntry> entries;
+    private Map<Long, String> employees;
+    private Map<Long, String> projects;
+}
@@ -0,0 +1,24 @@
+package com.keyhole.timesheet.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NormalizedTimeEntry {
+    private Long id;
+    private Long employeeId;
+    private Long projectId;
+    private LocalDate date;
+    private BigDecimal hours;
+    private String description;
+}
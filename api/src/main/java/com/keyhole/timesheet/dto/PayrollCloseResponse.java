@@ -0,0 +1,29 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollCloseResponse {
+    private Long id;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    // RUNNING, COMPLETED or FAILED
+    private String status;
+    private long processedEmployees;
+    // Null until the close completes
+    private BigDecimal totalHours;
+    private BigDecimal overtimeHours;
+    private Instant startedAt;
+    private Instant completedAt;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollSummaryResponse {
+    private Long employeeId;
+    private String employeeName;
+    private BigDecimal totalHours;
+    private BigDecimal regularHours;
+    private BigDecimal overtimeHours;
+    private List<ProjectHoursResponse> projects;
+}
@@ -0,0 +1,21 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodHoursResponse {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private BigDecimal hours;
+    // Running total from the start of the report through this period
+    private BigDecimal cumulativeHours;
+}
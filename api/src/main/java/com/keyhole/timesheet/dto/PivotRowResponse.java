@@ -0,0 +1,21 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PivotRowResponse {
+    private LocalDate date;
+    // One cell per project column, in the same order
+    private List<BigDecimal> hours;
+    private BigDecimal totalHours;
+}
@@ -0,0 +1,24 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectHoursReportResponse {
+    private Long projectId;
+    private String projectName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String granularity;
+    private List<PeriodHoursResponse> periods;
+    private BigDecimal totalHours;
+}
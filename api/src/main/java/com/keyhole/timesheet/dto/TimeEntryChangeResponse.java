@@ -0,0 +1,23 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntryChangeResponse {
+    // Same as the SSE event id; send it back as Last-Event-ID to resume
+    private String eventId;
+    // CREATED, UPDATED or DELETED
+    private String type;
+    private Long entryId;
+    // The entry after the change; null for DELETED
+    private TimeEntryResponse entry;
+    private Instant committedAt;
+}
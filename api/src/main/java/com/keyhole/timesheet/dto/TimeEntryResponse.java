@@ -1,5 +1,6 @@
 package com.keyhole.timesheet.dto;
 
+import com.keyhole.timesheet.entity.QuarterHours;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,4 +22,11 @@ public class TimeEntryResponse {
     private LocalDate date;
     private BigDecimal hours;
     private String description;
+
+    // Target of the constructor projections in the time entry repositories
+    public TimeEntryResponse(Long id, Long employeeId, String employeeName, Long projectId, String projectName,
+                             LocalDate date, int quarterHours, String description) {
+        this(id, employeeId, employeeName, projectId, projectName, date, QuarterHours.toHours(quarterHours),
+                description);
+    }
 }
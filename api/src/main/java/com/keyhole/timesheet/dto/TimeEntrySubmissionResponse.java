@@ -0,0 +1,18 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntrySubmissionResponse {
+    private String id;
+    // QUEUED, CREATED or REJECTED
+    private String status;
+    private Long timeEntryId;
+    private String error;
+}
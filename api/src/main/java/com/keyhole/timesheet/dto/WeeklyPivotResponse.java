@@ -0,0 +1,23 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyPivotResponse {
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private List<EmployeeWeekPivotResponse> employees;
+    // Team total per day, Monday first
+    private List<BigDecimal> dailyTotals;
+    private BigDecimal totalHours;
+}
@@ -0,0 +1,22 @@
+package com.keyhole.timesheet.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklySummaryResponse {
+    private Long employeeId;
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private List<DailySummaryResponse> days;
+    private BigDecimal totalHours;
+}
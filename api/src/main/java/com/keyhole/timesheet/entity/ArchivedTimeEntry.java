@@ -0,0 +1,52 @@
+package com.keyhole.timesheet.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A time entry moved out of {@code time_entries} once it fell behind the retention horizon.
+ * Same id and attributes as {@link TimeEntry}; rows are written by an INSERT ... SELECT from
+ * the hot table and never change afterwards.
+ */
+@Entity
+@Table(name = "time_entries_archive", indexes = {
+        @Index(name = "idx_time_entries_archive_employee_date", columnList = "employee_id, date"),
+        @Index(name = "idx_time_entries_archive_project_date", columnList = "project_id, date")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTimeEntry {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "quarter_hours", nullable = false)
+    private int quarterHours;
+
+    private String description;
+}
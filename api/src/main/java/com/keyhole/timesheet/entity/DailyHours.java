@@ -0,0 +1,56 @@
+package com.keyhole.timesheet.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Rollup of time entry hours per employee, project and day, maintained
+ * incrementally by {@code TimeEntryService} on every mutation.
+ */
+@Entity
+@Table(name = "daily_hours",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_hours_employee_project_date",
+                columnNames = {"employee_id", "project_id", "date"}),
+        indexes = {
+                @Index(name = "idx_daily_hours_employee_date", columnList = "employee_id, date"),
+                @Index(name = "idx_daily_hours_project_date", columnList = "project_id, date")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyHours {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "total_quarter_hours", nullable = false)
+    private int totalQuarterHours;
+}
@@ -6,10 +6,12 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "employees")
@@ -33,4 +35,9 @@ public class Employee {
     private String email;
 
     private String department;
+
+    // Bumped by every update; the list ETags are derived from it
+    @Version
+    @ColumnDefault("0")
+    private long version;
 }
@@ -0,0 +1,59 @@
+package com.keyhole.timesheet.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One close of a pay period. Employees are summarized in chunks, each committed together with
+ * its {@link PayrollSummary} rows, so those rows double as the checkpoint a resumed close
+ * starts from.
+ */
+@Entity
+@Table(name = "payroll_closes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payroll_closes_period",
+                columnNames = {"start_date", "end_date"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollClose {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    // Totals are filled in when the close completes
+    private Integer employees;
+
+    private Long totalQuarterHours;
+
+    private Long overtimeQuarterHours;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+
+    private Instant completedAt;
+
+    private String error;
+}
@@ -0,0 +1,64 @@
+package com.keyhole.timesheet.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An employee's hours for a closed pay period, with overtime and the split across projects.
+ */
+@Entity
+@Table(name = "payroll_summaries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payroll_summaries_close_employee",
+                columnNames = {"close_id", "employee_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollSummary {
+
+    // Pooled sequence so a chunk's summaries are inserted in JDBC batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_summaries_seq")
+    @SequenceGenerator(name = "payroll_summaries_seq", sequenceName = "payroll_summaries_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "close_id", nullable = false)
+    private PayrollClose close;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @Column(name = "total_quarter_hours", nullable = false)
+    private int totalQuarterHours;
+
+    @Column(name = "regular_quarter_hours", nullable = false)
+    private int regularQuarterHours;
+
+    @Column(name = "overtime_quarter_hours", nullable = false)
+    private int overtimeQuarterHours;
+
+    @ElementCollection
+    @CollectionTable(name = "payroll_summary_projects", joinColumns = @JoinColumn(name = "summary_id"))
+    @Builder.Default
+    private List<PayrollProjectHours> projects = new ArrayList<>();
+}
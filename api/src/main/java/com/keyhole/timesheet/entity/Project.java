@@ -5,14 +5,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_active", columnList = "active"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,4 +37,8 @@ public class Project {
     @Column(nullable = false)
     @Builder.Default
     private Boolean active = true;
+
+    @Version
+    @ColumnDefault("0")
+    private long version;
 }
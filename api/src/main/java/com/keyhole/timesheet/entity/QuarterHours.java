@@ -0,0 +1,61 @@
+package com.keyhole.timesheet.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * Hours are stored and summed as whole quarter-hours so validation and rollups work on
+ * primitive ints. Decimal hours only exist at the API boundary and are converted here.
+ */
+public final class QuarterHours {
+
+    public static final int PER_HOUR = 4;
+    public static final int MIN_PER_ENTRY = 1;
+    public static final int MAX_PER_DAY = 24 * PER_HOUR;
+
+    /** Returned by {@link #fromHours} when the value is not a whole number of quarter-hours. */
+    public static final int NOT_QUARTERS = Integer.MIN_VALUE;
+
+    private static final BigDecimal DECIMAL_PER_HOUR = BigDecimal.valueOf(PER_HOUR);
+    private static final BigDecimal MAX_INT = BigDecimal.valueOf(Integer.MAX_VALUE);
+    private static final BigDecimal MIN_INT = BigDecimal.valueOf(-Integer.MAX_VALUE);
+
+    // Daily and weekly totals map back to hours without allocating
+    private static final BigDecimal[] HOURS = new BigDecimal[MAX_PER_DAY * 7 + 1];
+
+    static {
+        for (int i = 0; i < HOURS.length; i++) {
+            HOURS[i] = BigDecimal.valueOf(i * 25L, 2);
+        }
+    }
+
+    private QuarterHours() {
+    }
+
+    /**
+     * Converts decimal hours to quarter-hours, saturating far out-of-range values so
+     * range checks still reject them.
+     */
+    public static int fromHours(BigDecimal hours) {
+        BigDecimal quarters = hours.multiply(DECIMAL_PER_HOUR);
+        if (quarters.signum() != 0 && quarters.stripTrailingZeros().scale() > 0) {
+            return NOT_QUARTERS;
+        }
+        if (quarters.compareTo(MAX_INT) > 0) {
+            return Integer.MAX_VALUE;
+        }
+        if (quarters.compareTo(MIN_INT) < 0) {
+            return -Integer.MAX_VALUE;
+        }
+        return quarters.intValue();
+    }
+
+    /**
+     * Converts quarter-hours to decimal hours with a scale of 2, e.g. 30 to 7.50.
+     */
+    public static BigDecimal toHours(long quarterHours) {
+        if (quarterHours >= 0 && quarterHours < HOURS.length) {
+            return HOURS[(int) quarterHours];
+        }
+        return BigDecimal.valueOf(quarterHours * 25, 2);
+    }
+}
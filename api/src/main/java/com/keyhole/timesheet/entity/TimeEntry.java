@@ -6,27 +6,34 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "time_entries")
+@Table(name = "time_entries", indexes = {
+        @Index(name = "idx_time_entries_employee_date", columnList = "employee_id, date"),
+        @Index(name = "idx_time_entries_project_date", columnList = "project_id, date")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TimeEntry {
 
+    // Pooled sequence so Hibernate can batch inserts; seed rows in data.sql use ids below initialValue
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_entries_seq")
+    @SequenceGenerator(name = "time_entries_seq", sequenceName = "time_entries_seq",
+            initialValue = 1000, allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,8 +47,9 @@ public class TimeEntry {
     @Column(nullable = false)
     private LocalDate date;
 
-    @Column(nullable = false, precision = 4, scale = 2)
-    private BigDecimal hours;
+    // Whole quarter-hours; see QuarterHours for conversion to and from decimal hours
+    @Column(name = "quarter_hours", nullable = false)
+    private int quarterHours;
 
     private String description;
 }
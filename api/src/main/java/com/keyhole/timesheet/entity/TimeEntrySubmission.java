@@ -0,0 +1,58 @@
+package com.keyhole.timesheet.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Outcome of an asynchronously submitted time entry, written in the same transaction
+ * as the entry itself so a replayed journal never creates it twice.
+ */
+@Entity
+@Table(name = "time_entry_submissions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntrySubmission implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    // Null when the entry was rejected
+    @Column(name = "time_entry_id")
+    private Long timeEntryId;
+
+    private String error;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+
+    // Ids are assigned by the queue, so Spring Data cannot tell new rows by a null id; this saves merge's select
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.entity.ArchivedTimeEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedTimeEntryRepository extends JpaRepository<ArchivedTimeEntry, Long>,
+        ArchivedTimeEntryRepositoryCustom {
+
+    @Modifying
+    @Query(value = "INSERT INTO time_entries_archive (id, employee_id, project_id, date, quarter_hours, description) "
+            + "SELECT id, employee_id, project_id, date, quarter_hours, description FROM time_entries "
+            + "WHERE id IN :ids", nativeQuery = true)
+    int copyFromHotTable(@Param("ids") Collection<Long> ids);
+
+    // Null while the archive is empty
+    @Query("SELECT MAX(a.date) FROM ArchivedTimeEntry a")
+    LocalDate findLatestDate();
+
+    @Query("SELECT a.employee.id AS employeeId, a.project.id AS projectId, a.date AS date, "
+            + "SUM(a.quarterHours) AS quarterHours FROM ArchivedTimeEntry a "
+            + "WHERE a.employee.id IN :employeeIds AND a.date BETWEEN :startDate AND :endDate "
+            + "GROUP BY a.employee.id, a.project.id, a.date")
+    List<EmployeeProjectDayHours> sumQuarterHoursByEmployeeIdsAndDateBetween(
+            @Param("employeeIds") Collection<Long> employeeIds, @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,22 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ArchivedTimeEntryRepositoryCustom {
+
+    // Same predicates and ordering as TimeEntryRepository.findResponses
+    List<TimeEntryResponse> findResponses(TimeEntryFilter filter);
+
+    // Same keyset as TimeEntryRepository.findResponsePage
+    List<TimeEntryResponse> findResponsePage(TimeEntryFilter filter, LocalDate afterDate, Long afterId, int limit);
+
+    // Ordered on (date, id) like TimeEntryRepository.streamResponses; same transaction rules
+    Stream<TimeEntryResponse> streamResponses(TimeEntryFilter filter, int fetchSize);
+
+    // Must be consumed and closed inside a transaction
+    Stream<TimeEntryFact> streamFacts(int fetchSize);
+}
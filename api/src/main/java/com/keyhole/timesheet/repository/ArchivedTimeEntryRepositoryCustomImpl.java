@@ -0,0 +1,39 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.entity.ArchivedTimeEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+class ArchivedTimeEntryRepositoryCustomImpl implements ArchivedTimeEntryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TimeEntryResponse> findResponses(TimeEntryFilter filter) {
+        return TimeEntryRepositoryCustomImpl.findResponses(entityManager, ArchivedTimeEntry.class, filter);
+    }
+
+    @Override
+    public List<TimeEntryResponse> findResponsePage(TimeEntryFilter filter, LocalDate afterDate, Long afterId,
+                                                    int limit) {
+        return TimeEntryRepositoryCustomImpl.findResponsePage(entityManager, ArchivedTimeEntry.class, filter,
+                afterDate, afterId, limit);
+    }
+
+    @Override
+    public Stream<TimeEntryResponse> streamResponses(TimeEntryFilter filter, int fetchSize) {
+        return TimeEntryRepositoryCustomImpl.streamResponses(entityManager, ArchivedTimeEntry.class, filter,
+                fetchSize);
+    }
+
+    @Override
+    public Stream<TimeEntryFact> streamFacts(int fetchSize) {
+        return TimeEntryRepositoryCustomImpl.streamFacts(entityManager, ArchivedTimeEntry.class, fetchSize);
+    }
+}
@@ -0,0 +1,63 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.entity.DailyHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyHoursRepository extends JpaRepository<DailyHours, Long> {
+
+    String EMPLOYEE_PROJECT_HOURS_SELECT = "SELECT d.employee.id AS employeeId, d.date AS date, p.id AS projectId, "
+            + "p.name AS projectName, d.totalQuarterHours AS quarterHours FROM DailyHours d JOIN d.project p ";
+
+    Optional<DailyHours> findByEmployeeIdAndProjectIdAndDate(Long employeeId, Long projectId, LocalDate date);
+
+    List<DailyHours> findByEmployeeIdInAndDateBetween(Collection<Long> employeeIds, LocalDate startDate,
+                                                      LocalDate endDate);
+
+    @Query("SELECT COALESCE(SUM(d.totalQuarterHours), 0) FROM DailyHours d "
+            + "WHERE d.employee.id = :employeeId AND d.date = :date")
+    long sumQuarterHoursByEmployeeIdAndDate(@Param("employeeId") Long employeeId, @Param("date") LocalDate date);
+
+    @Query("SELECT d.employee.id AS employeeId, d.date AS date, SUM(d.totalQuarterHours) AS quarterHours FROM DailyHours d "
+            + "WHERE d.employee.id IN :employeeIds AND d.date BETWEEN :startDate AND :endDate "
+            + "GROUP BY d.employee.id, d.date")
+    List<EmployeeDayHours> sumQuarterHoursByEmployeeIdsAndDateBetween(@Param("employeeIds") Collection<Long> employeeIds,
+                                                               @Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT d.employee.id AS employeeId, d.date AS date, d.totalQuarterHours AS quarterHours FROM DailyHours d "
+            + "WHERE d.project.id = :projectId AND d.date BETWEEN :startDate AND :endDate")
+    List<EmployeeDayHours> findEmployeeHoursByProjectId(@Param("projectId") Long projectId,
+                                                        @Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT d.date AS date, p.id AS projectId, p.name AS projectName, d.totalQuarterHours AS quarterHours "
+            + "FROM DailyHours d JOIN d.project p "
+            + "WHERE d.employee.id = :employeeId AND d.date BETWEEN :startDate AND :endDate "
+            + "ORDER BY d.date, p.name")
+    List<DailyProjectHours> findProjectHours(@Param("employeeId") Long employeeId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    @Query(EMPLOYEE_PROJECT_HOURS_SELECT
+            + "WHERE d.employee.id IN :employeeIds AND d.date BETWEEN :startDate AND :endDate "
+            + "ORDER BY p.name, p.id")
+    List<EmployeeProjectHours> findProjectHoursByEmployeeIds(@Param("employeeIds") Collection<Long> employeeIds,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
+
+    @Query(EMPLOYEE_PROJECT_HOURS_SELECT + "JOIN d.employee e "
+            + "WHERE e.department = :department AND d.date BETWEEN :startDate AND :endDate "
+            + "ORDER BY p.name, p.id")
+    List<EmployeeProjectHours> findProjectHoursByDepartment(@Param("department") String department,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+}
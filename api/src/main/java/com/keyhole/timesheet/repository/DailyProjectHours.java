@@ -0,0 +1,13 @@
+package com.keyhole.timesheet.repository;
+
+import java.time.LocalDate;
+
+public interface DailyProjectHours {
+    LocalDate getDate();
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    int getQuarterHours();
+}
@@ -0,0 +1,11 @@
+package com.keyhole.timesheet.repository;
+
+import java.time.LocalDate;
+
+public interface EmployeeDayHours {
+    Long getEmployeeId();
+
+    LocalDate getDate();
+
+    long getQuarterHours();
+}
@@ -0,0 +1,13 @@
+package com.keyhole.timesheet.repository;
+
+import java.time.LocalDate;
+
+public interface EmployeeProjectDayHours {
+    Long getEmployeeId();
+
+    Long getProjectId();
+
+    LocalDate getDate();
+
+    long getQuarterHours();
+}
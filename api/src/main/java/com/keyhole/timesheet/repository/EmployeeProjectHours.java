@@ -0,0 +1,15 @@
+package com.keyhole.timesheet.repository;
+
+import java.time.LocalDate;
+
+public interface EmployeeProjectHours {
+    Long getEmployeeId();
+
+    LocalDate getDate();
+
+    Long getProjectId();
+
+    String getProjectName();
+
+    int getQuarterHours();
+}
@@ -1,9 +1,50 @@
 package com.keyhole.timesheet.repository;
 
+import com.keyhole.timesheet.dto.EmployeeResponse;
 import com.keyhole.timesheet.entity.Employee;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    String RESPONSE_SELECT = "SELECT new com.keyhole.timesheet.dto.EmployeeResponse("
+            + "e.id, e.firstName, e.lastName, e.email, e.department) FROM Employee e ";
+
+    @Query(RESPONSE_SELECT + "ORDER BY e.id")
+    List<EmployeeResponse> findAllResponses();
+
+    @Query("SELECT COUNT(e) AS rowCount, COALESCE(MAX(e.id), 0) AS maxId, COALESCE(SUM(e.version), 0) AS versionSum "
+            + "FROM Employee e")
+    TableVersion findTableVersion();
+
+    @Query("SELECT e.id FROM Employee e ORDER BY e.id")
+    List<Long> findAllIds();
+
+    @Query(RESPONSE_SELECT + "WHERE e.id = :id")
+    Optional<EmployeeResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT + "WHERE e.id IN :ids ORDER BY e.id")
+    List<EmployeeResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE_SELECT + "WHERE e.department = :department ORDER BY e.id")
+    List<EmployeeResponse> findResponsesByDepartment(@Param("department") String department);
+
+    // Row locks serialize per-employee writes (e.g. the 24-hour rule) until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.id = :id")
+    Optional<Employee> findByIdForUpdate(@Param("id") Long id);
+
+    // Locks are taken in id order so concurrent batches cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids ORDER BY e.id")
+    List<Employee> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 }
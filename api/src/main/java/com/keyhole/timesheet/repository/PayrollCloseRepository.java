@@ -0,0 +1,17 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.entity.PayrollClose;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayrollCloseRepository extends JpaRepository<PayrollClose, Long> {
+
+    Optional<PayrollClose> findByStartDateAndEndDate(LocalDate startDate, LocalDate endDate);
+
+    List<PayrollClose> findByStatus(String status);
+}
@@ -0,0 +1,27 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.entity.PayrollSummary;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PayrollSummaryRepository extends JpaRepository<PayrollSummary, Long> {
+
+    @Query("SELECT s.employee.id FROM PayrollSummary s WHERE s.close.id = :closeId")
+    List<Long> findEmployeeIdsByCloseId(@Param("closeId") Long closeId);
+
+    long countByCloseId(Long closeId);
+
+    @EntityGraph(attributePaths = {"employee", "projects"})
+    List<PayrollSummary> findByCloseIdOrderByEmployeeId(Long closeId);
+
+    @Query("SELECT COUNT(s) AS employees, COALESCE(SUM(s.totalQuarterHours), 0) AS totalQuarterHours, "
+            + "COALESCE(SUM(s.overtimeQuarterHours), 0) AS overtimeQuarterHours "
+            + "FROM PayrollSummary s WHERE s.close.id = :closeId")
+    PayrollTotals findTotalsByCloseId(@Param("closeId") Long closeId);
+}
@@ -0,0 +1,9 @@
+package com.keyhole.timesheet.repository;
+
+public interface PayrollTotals {
+    long getEmployees();
+
+    long getTotalQuarterHours();
+
+    long getOvertimeQuarterHours();
+}
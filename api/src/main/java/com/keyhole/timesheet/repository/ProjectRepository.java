@@ -1,12 +1,33 @@
 package com.keyhole.timesheet.repository;
 
+import com.keyhole.timesheet.dto.ProjectResponse;
 import com.keyhole.timesheet.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    String RESPONSE_SELECT = "SELECT new com.keyhole.timesheet.dto.ProjectResponse("
+            + "p.id, p.name, p.code, p.description, p.active) FROM Project p ";
+
     List<Project> findByActive(Boolean active);
+
+    @Query("SELECT COUNT(p) AS rowCount, COALESCE(MAX(p.id), 0) AS maxId, COALESCE(SUM(p.version), 0) AS versionSum "
+            + "FROM Project p")
+    TableVersion findTableVersion();
+
+    @Query(RESPONSE_SELECT + "ORDER BY p.id")
+    List<ProjectResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "WHERE p.active = :active ORDER BY p.id")
+    List<ProjectResponse> findResponsesByActive(@Param("active") Boolean active);
+
+    @Query(RESPONSE_SELECT + "WHERE p.id = :id")
+    Optional<ProjectResponse> findResponseById(@Param("id") Long id);
 }
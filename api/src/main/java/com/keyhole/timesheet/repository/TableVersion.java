@@ -0,0 +1,10 @@
+package com.keyhole.timesheet.repository;
+
+// An insert raises the highest id, an update raises the version sum and a delete lowers the count
+public interface TableVersion {
+    long getRowCount();
+
+    long getMaxId();
+
+    long getVersionSum();
+}
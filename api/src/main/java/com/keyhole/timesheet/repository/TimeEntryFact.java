@@ -0,0 +1,7 @@
+package com.keyhole.timesheet.repository;
+
+import java.time.LocalDate;
+
+// Time entry without names or description, for loading the analytics index
+public record TimeEntryFact(Long id, Long employeeId, Long projectId, LocalDate date, int quarterHours) {
+}
@@ -0,0 +1,25 @@
+package com.keyhole.timesheet.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Optional predicates for time entry queries. Null fields are not applied;
+ * every supplied field is combined with AND into a single statement.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntryFilter {
+    private Long employeeId;
+    private Long projectId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Boolean activeProject;
+    private String description;
+}
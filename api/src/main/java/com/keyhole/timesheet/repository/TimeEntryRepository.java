@@ -1,24 +1,48 @@
 package com.keyhole.timesheet.repository;
 
+import com.keyhole.timesheet.dto.TimeEntryResponse;
 import com.keyhole.timesheet.entity.TimeEntry;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
+public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long>, TimeEntryRepositoryCustom {
 
-    List<TimeEntry> findByEmployeeId(Long employeeId);
+    String RESPONSE_SELECT = "SELECT new com.keyhole.timesheet.dto.TimeEntryResponse("
+            + "t.id, e.id, CONCAT(e.firstName, ' ', e.lastName), p.id, p.name, t.date, t.quarterHours, t.description) "
+            + "FROM TimeEntry t JOIN t.employee e JOIN t.project p ";
 
-    List<TimeEntry> findByProjectId(Long projectId);
+    @Query(RESPONSE_SELECT + "WHERE t.id = :id")
+    Optional<TimeEntryResponse> findResponseById(@Param("id") Long id);
 
-    List<TimeEntry> findByEmployeeIdAndDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
+    // Locks the rows so an update cannot commit between copying and deleting them
+    @Query(value = "SELECT id FROM time_entries WHERE date < :cutoff ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> findIdsDatedBeforeForUpdate(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
 
-    @Query("SELECT COALESCE(SUM(t.hours), 0) FROM TimeEntry t WHERE t.employee.id = :employeeId AND t.date = :date")
-    BigDecimal sumHoursByEmployeeIdAndDate(@Param("employeeId") Long employeeId, @Param("date") LocalDate date);
+    @Modifying
+    @Query("DELETE FROM TimeEntry t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TimeEntry t WHERE t.id = :id")
+    Optional<TimeEntry> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT t.employee.id AS employeeId, t.project.id AS projectId, t.date AS date, "
+            + "SUM(t.quarterHours) AS quarterHours FROM TimeEntry t "
+            + "WHERE t.employee.id IN :employeeIds AND t.date BETWEEN :startDate AND :endDate "
+            + "GROUP BY t.employee.id, t.project.id, t.date")
+    List<EmployeeProjectDayHours> sumQuarterHoursByEmployeeIdsAndDateBetween(
+            @Param("employeeIds") Collection<Long> employeeIds, @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,21 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TimeEntryRepositoryCustom {
+
+    List<TimeEntryResponse> findResponses(TimeEntryFilter filter);
+
+    // Keyset page ordered on (date, id); a null afterDate starts from the first row
+    List<TimeEntryResponse> findResponsePage(TimeEntryFilter filter, LocalDate afterDate, Long afterId, int limit);
+
+    // Must be consumed and closed inside a transaction; rows are pulled from the cursor fetchSize at a time
+    Stream<TimeEntryResponse> streamResponses(TimeEntryFilter filter, int fetchSize);
+
+    // Every entry, unordered and without joins; same transaction rules as streamResponses
+    Stream<TimeEntryFact> streamFacts(int fetchSize);
+}
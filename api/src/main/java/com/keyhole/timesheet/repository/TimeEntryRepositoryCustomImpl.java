@@ -0,0 +1,153 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.entity.Employee;
+import com.keyhole.timesheet.entity.Project;
+import com.keyhole.timesheet.entity.TimeEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+class TimeEntryRepositoryCustomImpl implements TimeEntryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TimeEntryResponse> findResponses(TimeEntryFilter filter) {
+        return findResponses(entityManager, TimeEntry.class, filter);
+    }
+
+    // Shared with the archive, whose entity has the same attribute names
+    static <T> List<TimeEntryResponse> findResponses(EntityManager entityManager, Class<T> type,
+                                                     TimeEntryFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TimeEntryResponse> query = cb.createQuery(TimeEntryResponse.class);
+        Root<T> entry = query.from(type);
+        Join<T, Employee> employee = entry.join("employee");
+        Join<T, Project> project = entry.join("project");
+
+        List<Predicate> predicates = toPredicates(cb, filter, entry, employee, project);
+        query.select(construct(cb, entry, employee, project))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(entry.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<TimeEntryResponse> findResponsePage(TimeEntryFilter filter, LocalDate afterDate, Long afterId,
+                                                    int limit) {
+        return findResponsePage(entityManager, TimeEntry.class, filter, afterDate, afterId, limit);
+    }
+
+    static <T> List<TimeEntryResponse> findResponsePage(EntityManager entityManager, Class<T> type,
+                                                        TimeEntryFilter filter, LocalDate afterDate, Long afterId,
+                                                        int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TimeEntryResponse> query = cb.createQuery(TimeEntryResponse.class);
+        Root<T> entry = query.from(type);
+        Join<T, Employee> employee = entry.join("employee");
+        Join<T, Project> project = entry.join("project");
+
+        List<Predicate> predicates = toPredicates(cb, filter, entry, employee, project);
+        if (afterDate != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(entry.get("date"), afterDate),
+                    cb.and(cb.equal(entry.get("date"), afterDate), cb.greaterThan(entry.get("id"), afterId))));
+        }
+        query.select(construct(cb, entry, employee, project))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(entry.get("date")), cb.asc(entry.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<TimeEntryResponse> streamResponses(TimeEntryFilter filter, int fetchSize) {
+        return streamResponses(entityManager, TimeEntry.class, filter, fetchSize);
+    }
+
+    static <T> Stream<TimeEntryResponse> streamResponses(EntityManager entityManager, Class<T> type,
+                                                         TimeEntryFilter filter, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TimeEntryResponse> query = cb.createQuery(TimeEntryResponse.class);
+        Root<T> entry = query.from(type);
+        Join<T, Employee> employee = entry.join("employee");
+        Join<T, Project> project = entry.join("project");
+
+        List<Predicate> predicates = toPredicates(cb, filter, entry, employee, project);
+        query.select(construct(cb, entry, employee, project))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(entry.get("date")), cb.asc(entry.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<TimeEntryFact> streamFacts(int fetchSize) {
+        return streamFacts(entityManager, TimeEntry.class, fetchSize);
+    }
+
+    static Stream<TimeEntryFact> streamFacts(EntityManager entityManager, Class<?> type, int fetchSize) {
+        return entityManager.createQuery("SELECT new com.keyhole.timesheet.repository.TimeEntryFact("
+                        + "t.id, t.employee.id, t.project.id, t.date, t.quarterHours) FROM "
+                        + type.getSimpleName() + " t", TimeEntryFact.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static <T> CompoundSelection<TimeEntryResponse> construct(
+            CriteriaBuilder cb, Root<T> entry, Join<T, Employee> employee, Join<T, Project> project) {
+        return cb.construct(TimeEntryResponse.class,
+                entry.get("id"),
+                employee.get("id"),
+                cb.concat(cb.concat(employee.<String>get("firstName"), " "), employee.<String>get("lastName")),
+                project.get("id"),
+                project.get("name"),
+                entry.get("date"),
+                entry.get("quarterHours"),
+                entry.get("description"));
+    }
+
+    private static <T> List<Predicate> toPredicates(CriteriaBuilder cb, TimeEntryFilter filter, Root<T> entry,
+                                                    Join<T, Employee> employee, Join<T, Project> project) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getEmployeeId() != null) {
+            predicates.add(cb.equal(employee.get("id"), filter.getEmployeeId()));
+        }
+        if (filter.getProjectId() != null) {
+            predicates.add(cb.equal(project.get("id"), filter.getProjectId()));
+        }
+        if (filter.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(entry.get("date"), filter.getStartDate()));
+        }
+        if (filter.getEndDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(entry.get("date"), filter.getEndDate()));
+        }
+        if (filter.getActiveProject() != null) {
+            predicates.add(cb.equal(project.get("active"), filter.getActiveProject()));
+        }
+        if (filter.getDescription() != null && !filter.getDescription().isBlank()) {
+            predicates.add(cb.like(cb.lower(entry.get("description")),
+                    "%" + escapeLike(filter.getDescription().toLowerCase()) + "%", '\\'));
+        }
+        return predicates;
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,17 @@
+package com.keyhole.timesheet.repository;
+
+import com.keyhole.timesheet.entity.TimeEntrySubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TimeEntrySubmissionRepository extends JpaRepository<TimeEntrySubmission, String> {
+
+    @Query("SELECT s.id FROM TimeEntrySubmission s WHERE s.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,45 @@
+package com.keyhole.timesheet.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Locale;
+
+public enum AnalyticsDimension {
+    EMPLOYEE,
+    PROJECT,
+    DEPARTMENT,
+    YEAR,
+    MONTH,
+    DAY;
+
+    public boolean isTime() {
+        return this == YEAR || this == MONTH || this == DAY;
+    }
+
+    // Consecutive periods get consecutive buckets
+    long bucket(LocalDate date) {
+        return switch (this) {
+            case YEAR -> date.getYear();
+            case MONTH -> date.getYear() * 12L + date.getMonthValue() - 1;
+            case DAY -> date.toEpochDay();
+            default -> throw new IllegalStateException(this + " is not a time dimension");
+        };
+    }
+
+    String label(long bucket) {
+        return switch (this) {
+            case YEAR -> String.valueOf(bucket);
+            case MONTH -> YearMonth.of((int) (bucket / 12), (int) (bucket % 12) + 1).toString();
+            case DAY -> LocalDate.ofEpochDay(bucket).toString();
+            default -> throw new IllegalStateException(this + " is not a time dimension");
+        };
+    }
+
+    public static AnalyticsDimension from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported dimension: " + value);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.keyhole.timesheet.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Row filter for {@link TimeEntryAnalyticsService}. Null or empty fields are not applied;
+ * values within a field are ORed, fields are ANDed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsFilter {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Collection<Long> employeeIds;
+    private Collection<Long> projectIds;
+    private Collection<String> departments;
+}
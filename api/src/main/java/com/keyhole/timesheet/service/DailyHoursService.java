@@ -0,0 +1,115 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.entity.DailyHours;
+import com.keyhole.timesheet.entity.Employee;
+import com.keyhole.timesheet.entity.Project;
+import com.keyhole.timesheet.entity.TimeEntry;
+import com.keyhole.timesheet.repository.DailyHoursRepository;
+import com.keyhole.timesheet.repository.EmployeeDayHours;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the {@link DailyHours} rollup in step with time entry mutations.
+ * Callers must invoke these methods inside the transaction that changes the entry.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyHoursService {
+
+    private final DailyHoursRepository dailyHoursRepository;
+    private final ProjectMonthCache projectMonthCache;
+
+    // Quarter-hours already logged by the employee on the day, across all projects
+    public int totalFor(Long employeeId, LocalDate date) {
+        return (int) dailyHoursRepository.sumQuarterHoursByEmployeeIdAndDate(employeeId, date);
+    }
+
+    public List<EmployeeDayHours> totalsFor(Collection<Long> employeeIds, LocalDate startDate, LocalDate endDate) {
+        return dailyHoursRepository.sumQuarterHoursByEmployeeIdsAndDateBetween(employeeIds, startDate, endDate);
+    }
+
+    public void add(TimeEntry entry) {
+        adjust(entry.getEmployee(), entry.getProject(), entry.getDate(), entry.getQuarterHours());
+    }
+
+    public void remove(TimeEntry entry) {
+        adjust(entry.getEmployee(), entry.getProject(), entry.getDate(), -entry.getQuarterHours());
+    }
+
+    public void addAll(List<TimeEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<Key, Integer> deltas = new LinkedHashMap<>();
+        Map<Key, TimeEntry> samples = new HashMap<>();
+        for (TimeEntry entry : entries) {
+            Key key = new Key(entry.getEmployee().getId(), entry.getProject().getId(), entry.getDate());
+            deltas.merge(key, entry.getQuarterHours(), Integer::sum);
+            samples.putIfAbsent(key, entry);
+        }
+
+        LocalDate startDate = entries.stream().map(TimeEntry::getDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate endDate = entries.stream().map(TimeEntry::getDate).max(Comparator.naturalOrder()).orElseThrow();
+        List<Long> employeeIds = deltas.keySet().stream().map(Key::employeeId).distinct().toList();
+        Map<Key, DailyHours> existing = new HashMap<>();
+        for (DailyHours row : dailyHoursRepository.findByEmployeeIdInAndDateBetween(employeeIds, startDate, endDate)) {
+            existing.put(new Key(row.getEmployee().getId(), row.getProject().getId(), row.getDate()), row);
+        }
+
+        deltas.forEach((key, delta) -> {
+            DailyHours row = existing.get(key);
+            if (row == null) {
+                TimeEntry sample = samples.get(key);
+                row = DailyHours.builder()
+                        .employee(sample.getEmployee())
+                        .project(sample.getProject())
+                        .date(key.date())
+                        .totalQuarterHours(delta)
+                        .build();
+            } else {
+                row.setTotalQuarterHours(row.getTotalQuarterHours() + delta);
+            }
+            dailyHoursRepository.save(row);
+        });
+        deltas.keySet().stream()
+                .map(key -> Map.entry(key.projectId(), YearMonth.from(key.date())))
+                .distinct()
+                .forEach(month -> projectMonthCache.evict(month.getKey(), month.getValue()));
+    }
+
+    private void adjust(Employee employee, Project project, LocalDate date, int delta) {
+        projectMonthCache.evict(project.getId(), YearMonth.from(date));
+        DailyHours row = dailyHoursRepository
+                .findByEmployeeIdAndProjectIdAndDate(employee.getId(), project.getId(), date)
+                .orElse(null);
+        if (row == null) {
+            dailyHoursRepository.save(DailyHours.builder()
+                    .employee(employee)
+                    .project(project)
+                    .date(date)
+                    .totalQuarterHours(delta)
+                    .build());
+            return;
+        }
+        int total = row.getTotalQuarterHours() + delta;
+        if (total == 0) {
+            dailyHoursRepository.delete(row);
+        } else {
+            row.setTotalQuarterHours(total);
+            dailyHoursRepository.save(row);
+        }
+    }
+
+    private record Key(Long employeeId, Long projectId, LocalDate date) {
+    }
+}
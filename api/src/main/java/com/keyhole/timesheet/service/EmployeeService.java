@@ -1,30 +1,37 @@
 package com.keyhole.timesheet.service;
 
+import com.keyhole.timesheet.config.CacheConfig;
 import com.keyhole.timesheet.dto.EmployeeRequest;
 import com.keyhole.timesheet.dto.EmployeeResponse;
 import com.keyhole.timesheet.entity.Employee;
 import com.keyhole.timesheet.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "timesheet.service", histogram = true)
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
 
+    @Transactional(readOnly = true)
     public List<EmployeeResponse> findAll() {
-        return employeeRepository.findAll().stream()
-                .map(this::toResponse)
-                .toList();
+        return employeeRepository.findAllResponses();
     }
 
+    // Cache misses are read from the primary, like ProjectService.findById
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#id", unless = CacheConfig.UNLESS_REPLICA_READ)
+    @Transactional
     public EmployeeResponse findById(Long id) {
-        Employee employee = employeeRepository.findById(id)
+        return employeeRepository.findResponseById(id)
                 .orElseThrow(() -> new com.keyhole.timesheet.exception.ResourceNotFoundException("Employee not found with id: " + id));
-        return toResponse(employee);
     }
 
     public EmployeeResponse create(EmployeeRequest request) {
@@ -37,6 +44,7 @@ public class EmployeeService {
         return toResponse(employeeRepository.save(employee));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
     public EmployeeResponse update(Long id, EmployeeRequest request) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new com.keyhole.timesheet.exception.ResourceNotFoundException("Employee not found with id: " + id));
@@ -0,0 +1,106 @@
+package com.keyhole.timesheet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only NDJSON file of accepted submissions. A line is written (and optionally forced
+ * to disk) before the submission is acknowledged; the file is cut back to the unprocessed
+ * lines on startup and emptied whenever the queue drains. Not thread-safe; callers lock.
+ */
+@Slf4j
+final class IngestJournal implements AutoCloseable {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final boolean sync;
+    private FileChannel channel;
+
+    IngestJournal(Path path, ObjectMapper objectMapper, boolean sync) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.sync = sync;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = open();
+    }
+
+    // A line torn by a crash mid-write is skipped: that submission was never acknowledged
+    List<QueuedSubmission> read() throws IOException {
+        List<QueuedSubmission> submissions = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    submissions.add(objectMapper.readValue(line, QueuedSubmission.class));
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable journal line in {}", path);
+                }
+            }
+        }
+        return submissions;
+    }
+
+    void append(QueuedSubmission submission) throws IOException {
+        write(channel, submission);
+        if (sync) {
+            channel.force(false);
+        }
+    }
+
+    void rewrite(Collection<QueuedSubmission> submissions) throws IOException {
+        channel.close();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (QueuedSubmission submission : submissions) {
+                write(out, submission);
+            }
+            out.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open();
+    }
+
+    void truncate() throws IOException {
+        channel.truncate(0);
+        if (sync) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void write(FileChannel out, QueuedSubmission submission) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(submission) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.PayrollCloseResponse;
+import com.keyhole.timesheet.dto.PayrollSummaryResponse;
+import com.keyhole.timesheet.dto.ProjectHoursResponse;
+import com.keyhole.timesheet.dto.ProjectResponse;
+import com.keyhole.timesheet.entity.Employee;
+import com.keyhole.timesheet.entity.PayrollClose;
+import com.keyhole.timesheet.entity.PayrollProjectHours;
+import com.keyhole.timesheet.entity.PayrollSummary;
+import com.keyhole.timesheet.entity.QuarterHours;
+import com.keyhole.timesheet.exception.ResourceNotFoundException;
+import com.keyhole.timesheet.repository.EmployeeProjectDayHours;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import com.keyhole.timesheet.repository.PayrollCloseRepository;
+import com.keyhole.timesheet.repository.PayrollSummaryRepository;
+import com.keyhole.timesheet.repository.PayrollTotals;
+import com.keyhole.timesheet.repository.ProjectRepository;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Server-side pay period close. Employees without a summary yet are split in halves across a
+ * fork-join pool down to chunks of {@code chunk-size}; each chunk reads its hours in one grouped
+ * query and writes its {@link PayrollSummary} rows in its own transaction. A close interrupted
+ * by a restart is resumed on startup from the summaries already committed.
+ * Overtime is counted per ISO week over the days of that week inside the period.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayrollCloseService implements SmartLifecycle {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final PayrollCloseRepository payrollCloseRepository;
+    private final PayrollSummaryRepository payrollSummaryRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final TimeEntryRepository timeEntryRepository;
+    private final TimeEntryArchiveService archiveService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Closes queued or running in this process
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+    private ForkJoinPool pool;
+    private volatile boolean running;
+
+    // 0 uses every core; each worker holds a connection while it reads and writes a chunk
+    @Value("${timesheet.payroll.parallelism}")
+    private int parallelism;
+
+    @Value("${timesheet.payroll.chunk-size}")
+    private int chunkSize;
+
+    @Value("${timesheet.payroll.weekly-overtime-hours}")
+    private int weeklyOvertimeHours;
+
+    @Value("${timesheet.payroll.max-days}")
+    private int maxDays;
+
+    public PayrollCloseResponse close(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new IllegalArgumentException("Pay period must not exceed " + maxDays + " days");
+        }
+        PayrollClose close = payrollCloseRepository.findByStartDateAndEndDate(startDate, endDate)
+                .orElseGet(() -> create(startDate, endDate));
+        if (FAILED.equals(close.getStatus())) {
+            close.setStatus(RUNNING);
+            close.setError(null);
+            close = payrollCloseRepository.save(close);
+        }
+        if (RUNNING.equals(close.getStatus())) {
+            submit(close.getId());
+        }
+        return toResponse(close);
+    }
+
+    private PayrollClose create(LocalDate startDate, LocalDate endDate) {
+        try {
+            return payrollCloseRepository.save(PayrollClose.builder()
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .status(RUNNING)
+                    .startedAt(Instant.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request inserted the same period first; uk_payroll_closes_period keeps one row
+            return payrollCloseRepository.findByStartDateAndEndDate(startDate, endDate).orElseThrow(() -> e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PayrollCloseResponse findById(Long id) {
+        return toResponse(findClose(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PayrollSummaryResponse> findSummaries(Long id) {
+        findClose(id);
+        Map<Long, String> projectNames = projectRepository.findAllResponses().stream()
+                .collect(Collectors.toMap(ProjectResponse::getId, ProjectResponse::getName));
+        return payrollSummaryRepository.findByCloseIdOrderByEmployeeId(id).stream()
+                .map(summary -> toResponse(summary, projectNames))
+                .toList();
+    }
+
+    // Runs the close on the calling thread; summarizes only employees the close has no summary for yet
+    public void run(Long closeId) {
+        // Read-write transactions so the checkpoint comes from the primary even when reads go to a replica
+        PayrollClose close = transactionTemplate.execute(status -> findClose(closeId));
+        long started = System.nanoTime();
+        Set<Long> done = new HashSet<>(transactionTemplate.execute(
+                status -> payrollSummaryRepository.findEmployeeIdsByCloseId(closeId)));
+        List<Long> remaining = transactionTemplate.execute(status -> employeeRepository.findAllIds()).stream()
+                .filter(id -> !done.contains(id))
+                .toList();
+        try {
+            pool.invoke(new Partition(close, remaining));
+        } catch (RuntimeException e) {
+            if (!running) {
+                log.info("Payroll close {} interrupted by shutdown; it resumes on the next start", closeId);
+                return;
+            }
+            log.error("Payroll close {} failed", closeId, e);
+            fail(closeId, e);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            PayrollClose completed = findClose(closeId);
+            PayrollTotals totals = payrollSummaryRepository.findTotalsByCloseId(closeId);
+            completed.setEmployees((int) totals.getEmployees());
+            completed.setTotalQuarterHours(totals.getTotalQuarterHours());
+            completed.setOvertimeQuarterHours(totals.getOvertimeQuarterHours());
+            completed.setStatus(COMPLETED);
+            completed.setCompletedAt(Instant.now());
+        });
+        log.info("Closed pay period {} to {}: {} employees summarized, {} from checkpoint, in {} ms",
+                close.getStartDate(), close.getEndDate(), remaining.size(), done.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    public void start() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("payroll-close").daemon().factory());
+        running = true;
+        List<PayrollClose> resumable = transactionTemplate.execute(
+                status -> payrollCloseRepository.findByStatus(RUNNING));
+        for (PayrollClose close : resumable) {
+            log.info("Resuming payroll close {} for {} to {}", close.getId(), close.getStartDate(),
+                    close.getEndDate());
+            submit(close.getId());
+        }
+    }
+
+    // Chunks already committed stay; the close is left RUNNING and resumed on the next start
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void submit(Long closeId) {
+        if (active.add(closeId)) {
+            executor.execute(() -> {
+                try {
+                    run(closeId);
+                } finally {
+                    active.remove(closeId);
+                }
+            });
+        }
+    }
+
+    private void fail(Long closeId, RuntimeException e) {
+        String message = String.valueOf(e.getMessage());
+        transactionTemplate.executeWithoutResult(status -> {
+            PayrollClose failed = findClose(closeId);
+            failed.setStatus(FAILED);
+            failed.setError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        });
+    }
+
+    private void closeChunk(PayrollClose close, List<Long> employeeIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<EmployeeProjectDayHours> days = new ArrayList<>(timeEntryRepository
+                    .sumQuarterHoursByEmployeeIdsAndDateBetween(employeeIds, close.getStartDate(), close.getEndDate()));
+            if (archiveService.reaches(close.getStartDate())) {
+                days.addAll(archiveService.sumQuarterHoursByEmployeeIdsAndDateBetween(employeeIds,
+                        close.getStartDate(), close.getEndDate()));
+            }
+            Map<Long, List<EmployeeProjectDayHours>> hours = days.stream()
+                    .collect(Collectors.groupingBy(EmployeeProjectDayHours::getEmployeeId));
+            PayrollClose closeReference = payrollCloseRepository.getReferenceById(close.getId());
+            List<PayrollSummary> summaries = new ArrayList<>(employeeIds.size());
+            for (Long employeeId : employeeIds) {
+                summaries.add(summarize(closeReference, employeeRepository.getReferenceById(employeeId),
+                        hours.getOrDefault(employeeId, List.of())));
+            }
+            payrollSummaryRepository.saveAll(summaries);
+        });
+    }
+
+    private PayrollSummary summarize(PayrollClose close, Employee employee, List<EmployeeProjectDayHours> days) {
+        int total = 0;
+        Map<Long, Integer> projects = new TreeMap<>();
+        Map<LocalDate, Integer> weeks = new HashMap<>();
+        for (EmployeeProjectDayHours day : days) {
+            int quarterHours = (int) day.getQuarterHours();
+            total += quarterHours;
+            projects.merge(day.getProjectId(), quarterHours, Integer::sum);
+            weeks.merge(day.getDate().with(DayOfWeek.MONDAY), quarterHours, Integer::sum);
+        }
+        int threshold = weeklyOvertimeHours * QuarterHours.PER_HOUR;
+        int overtime = weeks.values().stream().mapToInt(week -> Math.max(0, week - threshold)).sum();
+        return PayrollSummary.builder()
+                .close(close)
+                .employee(employee)
+                .totalQuarterHours(total)
+                .regularQuarterHours(total - overtime)
+                .overtimeQuarterHours(overtime)
+                .projects(projects.entrySet().stream()
+                        .map(project -> PayrollProjectHours.builder()
+                                .projectId(project.getKey())
+                                .quarterHours(project.getValue())
+                                .build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+
+    private PayrollClose findClose(Long id) {
+        return payrollCloseRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Payroll close not found with id: " + id));
+    }
+
+    private PayrollCloseResponse toResponse(PayrollClose close) {
+        return PayrollCloseResponse.builder()
+                .id(close.getId())
+                .startDate(close.getStartDate())
+                .endDate(close.getEndDate())
+                .status(close.getStatus())
+                .processedEmployees(payrollSummaryRepository.countByCloseId(close.getId()))
+                .totalHours(close.getTotalQuarterHours() != null
+                        ? QuarterHours.toHours(close.getTotalQuarterHours()) : null)
+                .overtimeHours(close.getOvertimeQuarterHours() != null
+                        ? QuarterHours.toHours(close.getOvertimeQuarterHours()) : null)
+                .startedAt(close.getStartedAt())
+                .completedAt(close.getCompletedAt())
+                .error(close.getError())
+                .build();
+    }
+
+    private PayrollSummaryResponse toResponse(PayrollSummary summary, Map<Long, String> projectNames) {
+        Employee employee = summary.getEmployee();
+        return PayrollSummaryResponse.builder()
+                .employeeId(employee.getId())
+                .employeeName(employee.getFirstName() + " " + employee.getLastName())
+                .totalHours(QuarterHours.toHours(summary.getTotalQuarterHours()))
+                .regularHours(QuarterHours.toHours(summary.getRegularQuarterHours()))
+                .overtimeHours(QuarterHours.toHours(summary.getOvertimeQuarterHours()))
+                .projects(summary.getProjects().stream()
+                        .map(project -> ProjectHoursResponse.builder()
+                                .projectId(project.getProjectId())
+                                .projectName(projectNames.get(project.getProjectId()))
+                                .hours(QuarterHours.toHours(project.getQuarterHours()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    // Halves the employee list until a chunk is small enough to close in one transaction
+    private final class Partition extends RecursiveAction {
+
+        private final PayrollClose close;
+        private final List<Long> employeeIds;
+
+        Partition(PayrollClose close, List<Long> employeeIds) {
+            this.close = close;
+            this.employeeIds = employeeIds;
+        }
+
+        @Override
+        protected void compute() {
+            if (employeeIds.size() <= chunkSize) {
+                if (!employeeIds.isEmpty()) {
+                    closeChunk(close, employeeIds);
+                }
+                return;
+            }
+            int middle = employeeIds.size() / 2;
+            invokeAll(new Partition(close, employeeIds.subList(0, middle)),
+                    new Partition(close, employeeIds.subList(middle, employeeIds.size())));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.keyhole.timesheet.service;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One project's hours for one calendar month in quarter-hours, per day and per employee per day.
+ * Filled once while loading and read-only after it has been cached.
+ */
+final class ProjectMonth {
+
+    private final int[] dayTotals;
+    private final Map<Long, int[]> employeeDays = new HashMap<>();
+
+    ProjectMonth(YearMonth month) {
+        this.dayTotals = new int[month.lengthOfMonth()];
+    }
+
+    void add(Long employeeId, int dayOfMonth, int quarterHours) {
+        dayTotals[dayOfMonth - 1] += quarterHours;
+        employeeDays.computeIfAbsent(employeeId, id -> new int[dayTotals.length])[dayOfMonth - 1] += quarterHours;
+    }
+
+    int day(int dayOfMonth) {
+        return dayTotals[dayOfMonth - 1];
+    }
+
+    // Adds each employee's quarter-hours between the two days (inclusive) to the totals
+    void addContributions(int fromDay, int toDay, Map<Long, Long> totals) {
+        employeeDays.forEach((employeeId, days) -> {
+            long sum = 0;
+            for (int day = fromDay; day <= toDay; day++) {
+                sum += days[day - 1];
+            }
+            if (sum != 0) {
+                totals.merge(employeeId, sum, Long::sum);
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.config.CacheConfig;
+import com.keyhole.timesheet.config.ReadWriteRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-project monthly rollups for closed months (any month before the current one).
+ * The open month is always read from the database. Entries are evicted whenever the
+ * rollup changes for that project and month, both immediately and again once the writing
+ * transaction completes, so neither a report that read the old rows while the writer was in
+ * flight nor one that saw rows later rolled back is kept.
+ * <p>
+ * With replica routing, a report read from the replica is not cached for a month evicted
+ * within the read-your-writes window, since the replica may not have the write yet.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectMonthCache {
+
+    private final CacheManager cacheManager;
+    private final Map<Key, Instant> recentEvictions = new ConcurrentHashMap<>();
+
+    @Value("${timesheet.replica.read-your-writes-window}")
+    private Duration replicaLag;
+
+    ProjectMonth get(Long projectId, YearMonth month) {
+        if (!isClosed(month)) {
+            return null;
+        }
+        return cache().get(new Key(projectId, month), ProjectMonth.class);
+    }
+
+    void putIfClosed(Long projectId, YearMonth month, ProjectMonth hours) {
+        if (!isClosed(month)) {
+            return;
+        }
+        Key key = new Key(projectId, month);
+        if (ReadWriteRoutingDataSource.isReplicaTransaction() && evictedWithinReplicaLag(key)) {
+            return;
+        }
+        cache().put(key, hours);
+    }
+
+    public void evict(Long projectId, YearMonth month) {
+        if (!isClosed(month)) {
+            return;
+        }
+        Key key = new Key(projectId, month);
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(key);
+                }
+            });
+        }
+    }
+
+    private void evict(Key key) {
+        cache().evict(key);
+        recentEvictions.put(key, Instant.now());
+    }
+
+    private boolean evictedWithinReplicaLag(Key key) {
+        Instant cutoff = Instant.now().minus(replicaLag);
+        recentEvictions.values().removeIf(evictedAt -> evictedAt.isBefore(cutoff));
+        return recentEvictions.containsKey(key);
+    }
+
+    private static boolean isClosed(YearMonth month) {
+        return month.isBefore(YearMonth.now());
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.PROJECT_MONTHS);
+    }
+
+    private record Key(Long projectId, YearMonth month) {
+    }
+}
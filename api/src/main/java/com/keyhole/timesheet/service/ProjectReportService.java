@@ -0,0 +1,164 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.EmployeeHoursResponse;
+import com.keyhole.timesheet.dto.EmployeeResponse;
+import com.keyhole.timesheet.dto.PeriodHoursResponse;
+import com.keyhole.timesheet.dto.ProjectContributorsResponse;
+import com.keyhole.timesheet.dto.ProjectHoursReportResponse;
+import com.keyhole.timesheet.dto.ProjectResponse;
+import com.keyhole.timesheet.entity.QuarterHours;
+import com.keyhole.timesheet.repository.DailyHoursRepository;
+import com.keyhole.timesheet.repository.EmployeeDayHours;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project burn reports over the daily rollup. Each report is assembled from whole
+ * {@link ProjectMonth}s, so closed months come from {@link ProjectMonthCache} and only
+ * the open month and cache misses touch the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "timesheet.service", histogram = true)
+public class ProjectReportService {
+
+    private final DailyHoursRepository dailyHoursRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ProjectService projectService;
+    private final ProjectMonthCache projectMonthCache;
+
+    @Value("${timesheet.reports.max-months}")
+    private int maxMonths;
+
+    @Transactional(readOnly = true)
+    public ProjectHoursReportResponse hours(Long projectId, LocalDate startDate, LocalDate endDate,
+                                            ReportGranularity granularity) {
+        // Throws not-found for unknown projects, served from the reference data cache
+        ProjectResponse project = projectService.findById(projectId);
+        Map<YearMonth, ProjectMonth> months = load(projectId, startDate, endDate);
+
+        List<PeriodHoursResponse> periods = new ArrayList<>();
+        long cumulative = 0;
+        for (LocalDate periodStart = startDate; !periodStart.isAfter(endDate); ) {
+            LocalDate periodEnd = granularity.periodEnd(periodStart);
+            if (periodEnd.isAfter(endDate)) {
+                periodEnd = endDate;
+            }
+            long quarterHours = 0;
+            for (LocalDate date = periodStart; !date.isAfter(periodEnd); date = date.plusDays(1)) {
+                quarterHours += months.get(YearMonth.from(date)).day(date.getDayOfMonth());
+            }
+            cumulative += quarterHours;
+            periods.add(PeriodHoursResponse.builder()
+                    .periodStart(periodStart)
+                    .periodEnd(periodEnd)
+                    .hours(QuarterHours.toHours(quarterHours))
+                    .cumulativeHours(QuarterHours.toHours(cumulative))
+                    .build());
+            periodStart = periodEnd.plusDays(1);
+        }
+        return ProjectHoursReportResponse.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .granularity(granularity.name())
+                .periods(periods)
+                .totalHours(QuarterHours.toHours(cumulative))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectContributorsResponse contributors(Long projectId, LocalDate startDate, LocalDate endDate) {
+        ProjectResponse project = projectService.findById(projectId);
+        Map<YearMonth, ProjectMonth> months = load(projectId, startDate, endDate);
+
+        Map<Long, Long> totals = new HashMap<>();
+        months.forEach((month, hours) -> {
+            int fromDay = month.equals(YearMonth.from(startDate)) ? startDate.getDayOfMonth() : 1;
+            int toDay = month.equals(YearMonth.from(endDate)) ? endDate.getDayOfMonth() : month.lengthOfMonth();
+            hours.addContributions(fromDay, toDay, totals);
+        });
+
+        List<EmployeeHoursResponse> contributors = new ArrayList<>(totals.size());
+        long total = 0;
+        if (!totals.isEmpty()) {
+            for (EmployeeResponse employee : employeeRepository.findResponsesByIdIn(totals.keySet())) {
+                long quarterHours = totals.get(employee.getId());
+                total += quarterHours;
+                contributors.add(EmployeeHoursResponse.builder()
+                        .employeeId(employee.getId())
+                        .employeeName(employee.getFirstName() + " " + employee.getLastName())
+                        .hours(QuarterHours.toHours(quarterHours))
+                        .build());
+            }
+        }
+        contributors.sort(Comparator.comparing(EmployeeHoursResponse::getHours).reversed()
+                .thenComparing(EmployeeHoursResponse::getEmployeeId));
+        return ProjectContributorsResponse.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .contributors(contributors)
+                .totalHours(QuarterHours.toHours(total))
+                .build();
+    }
+
+    // Every month overlapping the range; cache misses are read in one query spanning them
+    private Map<YearMonth, ProjectMonth> load(Long projectId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        YearMonth first = YearMonth.from(startDate);
+        YearMonth last = YearMonth.from(endDate);
+        if (ChronoUnit.MONTHS.between(first, last) >= maxMonths) {
+            throw new IllegalArgumentException("Report cannot span more than " + maxMonths + " months");
+        }
+
+        Map<YearMonth, ProjectMonth> months = new HashMap<>();
+        Map<YearMonth, ProjectMonth> missing = new HashMap<>();
+        YearMonth missingFrom = null;
+        YearMonth missingTo = null;
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            ProjectMonth cached = projectMonthCache.get(projectId, month);
+            if (cached != null) {
+                months.put(month, cached);
+                continue;
+            }
+            missing.put(month, new ProjectMonth(month));
+            if (missingFrom == null) {
+                missingFrom = month;
+            }
+            missingTo = month;
+        }
+        if (missing.isEmpty()) {
+            return months;
+        }
+
+        for (EmployeeDayHours row : dailyHoursRepository.findEmployeeHoursByProjectId(
+                projectId, missingFrom.atDay(1), missingTo.atEndOfMonth())) {
+            ProjectMonth month = missing.get(YearMonth.from(row.getDate()));
+            // Months between two misses may already be cached
+            if (month != null) {
+                month.add(row.getEmployeeId(), row.getDate().getDayOfMonth(), (int) row.getQuarterHours());
+            }
+        }
+        missing.forEach((month, hours) -> projectMonthCache.putIfClosed(projectId, month, hours));
+        months.putAll(missing);
+        return months;
+    }
+}
@@ -1,32 +1,40 @@
 package com.keyhole.timesheet.service;
 
+import com.keyhole.timesheet.config.CacheConfig;
 import com.keyhole.timesheet.dto.ProjectRequest;
 import com.keyhole.timesheet.dto.ProjectResponse;
 import com.keyhole.timesheet.entity.Project;
 import com.keyhole.timesheet.exception.ResourceNotFoundException;
 import com.keyhole.timesheet.repository.ProjectRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "timesheet.service", histogram = true)
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
 
+    @Transactional(readOnly = true)
     public List<ProjectResponse> findAll(Boolean active) {
-        List<Project> projects = (active != null)
-                ? projectRepository.findByActive(active)
-                : projectRepository.findAll();
-        return projects.stream().map(this::toResponse).toList();
+        return (active != null)
+                ? projectRepository.findResponsesByActive(active)
+                : projectRepository.findAllResponses();
     }
 
+    // Not read-only: a miss loads from the primary, so a lagging replica cannot refill an evicted entry
+    @Cacheable(cacheNames = CacheConfig.PROJECTS, key = "#id", unless = CacheConfig.UNLESS_REPLICA_READ)
+    @Transactional
     public ProjectResponse findById(Long id) {
-        Project project = projectRepository.findById(id)
+        return projectRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
-        return toResponse(project);
     }
 
     public ProjectResponse create(ProjectRequest request) {
@@ -39,6 +47,7 @@ public class ProjectService {
         return toResponse(projectRepository.save(project));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = "#id")
     public ProjectResponse update(Long id, ProjectRequest request) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
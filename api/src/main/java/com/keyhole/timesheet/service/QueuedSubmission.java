@@ -0,0 +1,7 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+
+// One accepted submission as held in the queue and written to the journal
+record QueuedSubmission(String id, TimeEntryRequest request) {
+}
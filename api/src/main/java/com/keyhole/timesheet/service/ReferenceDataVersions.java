@@ -0,0 +1,33 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import com.keyhole.timesheet.repository.ProjectRepository;
+import com.keyhole.timesheet.repository.TableVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * ETags for the employee and project list endpoints, derived from the tables: row count, highest
+ * id and the sum of the rows' {@code @Version} columns. Every committed insert, update or delete
+ * moves one of them, and since the state lives in the database, every instance computes the same
+ * ETag for the same data.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataVersions {
+
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+
+    public String employeesETag() {
+        return "\"employees-" + format(employeeRepository.findTableVersion()) + "\"";
+    }
+
+    public String projectsETag(Boolean active) {
+        return "\"projects-" + format(projectRepository.findTableVersion()) + (active == null ? "" : "-" + active) + "\"";
+    }
+
+    private static String format(TableVersion version) {
+        return version.getRowCount() + "-" + version.getMaxId() + "-" + version.getVersionSum();
+    }
+}
@@ -0,0 +1,30 @@
+package com.keyhole.timesheet.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+public enum ReportGranularity {
+    DAY,
+    // ISO weeks, Monday to Sunday
+    WEEK,
+    MONTH;
+
+    // Last day of the period containing the given date
+    public LocalDate periodEnd(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+
+    public static ReportGranularity from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported granularity: " + value);
+        }
+    }
+}
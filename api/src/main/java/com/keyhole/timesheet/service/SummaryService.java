@@ -0,0 +1,211 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.DailySummaryResponse;
+import com.keyhole.timesheet.dto.EmployeeResponse;
+import com.keyhole.timesheet.dto.EmployeeWeekPivotResponse;
+import com.keyhole.timesheet.dto.PivotRowResponse;
+import com.keyhole.timesheet.dto.ProjectHoursResponse;
+import com.keyhole.timesheet.dto.WeeklyPivotResponse;
+import com.keyhole.timesheet.dto.WeeklySummaryResponse;
+import com.keyhole.timesheet.entity.QuarterHours;
+import com.keyhole.timesheet.exception.ResourceNotFoundException;
+import com.keyhole.timesheet.repository.DailyHoursRepository;
+import com.keyhole.timesheet.repository.DailyProjectHours;
+import com.keyhole.timesheet.repository.EmployeeProjectHours;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "timesheet.service", histogram = true)
+public class SummaryService {
+
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final DailyHoursRepository dailyHoursRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeService employeeService;
+
+    @Value("${timesheet.pivot.max-employees}")
+    private int maxPivotEmployees;
+
+    @Transactional(readOnly = true)
+    public WeeklySummaryResponse weekly(Long employeeId, LocalDate week) {
+        // Throws not-found for unknown employees, served from the reference data cache
+        employeeService.findById(employeeId);
+        LocalDate weekStart = week.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = weekStart.plusDays(6);
+
+        Map<LocalDate, List<ProjectHoursResponse>> projectsByDay = new LinkedHashMap<>();
+        Map<LocalDate, Integer> dayTotals = new HashMap<>();
+        for (LocalDate date = weekStart; !date.isAfter(weekEnd); date = date.plusDays(1)) {
+            projectsByDay.put(date, new ArrayList<>());
+        }
+        for (DailyProjectHours row : dailyHoursRepository.findProjectHours(employeeId, weekStart, weekEnd)) {
+            projectsByDay.get(row.getDate()).add(ProjectHoursResponse.builder()
+                    .projectId(row.getProjectId())
+                    .projectName(row.getProjectName())
+                    .hours(QuarterHours.toHours(row.getQuarterHours()))
+                    .build());
+            dayTotals.merge(row.getDate(), row.getQuarterHours(), Integer::sum);
+        }
+
+        List<DailySummaryResponse> days = new ArrayList<>();
+        int weekTotal = 0;
+        for (Map.Entry<LocalDate, List<ProjectHoursResponse>> day : projectsByDay.entrySet()) {
+            int dayTotal = dayTotals.getOrDefault(day.getKey(), 0);
+            weekTotal += dayTotal;
+            days.add(DailySummaryResponse.builder()
+                    .date(day.getKey())
+                    .projects(day.getValue())
+                    .totalHours(QuarterHours.toHours(dayTotal))
+                    .build());
+        }
+        return WeeklySummaryResponse.builder()
+                .employeeId(employeeId)
+                .weekStart(weekStart)
+                .weekEnd(weekEnd)
+                .days(days)
+                .totalHours(QuarterHours.toHours(weekTotal))
+                .build();
+    }
+
+    /**
+     * Day-by-project grids for several employees in one pass over the daily rollup:
+     * either the given employee ids or everyone in a department.
+     */
+    @Transactional(readOnly = true)
+    public WeeklyPivotResponse weeklyPivot(Collection<Long> employeeIds, String department, LocalDate week) {
+        boolean byIds = employeeIds != null && !employeeIds.isEmpty();
+        boolean byDepartment = department != null && !department.isBlank();
+        if (byIds == byDepartment) {
+            throw new IllegalArgumentException("Specify either employeeIds or department");
+        }
+        LocalDate weekStart = week.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = weekStart.plusDays(DAYS_PER_WEEK - 1);
+
+        List<EmployeeResponse> employees;
+        List<EmployeeProjectHours> rows;
+        if (byIds) {
+            Set<Long> ids = new TreeSet<>(employeeIds);
+            if (ids.size() > maxPivotEmployees) {
+                throw new IllegalArgumentException("Pivot cannot include more than " + maxPivotEmployees + " employees");
+            }
+            employees = employeeRepository.findResponsesByIdIn(ids);
+            if (employees.size() != ids.size()) {
+                employees.forEach(employee -> ids.remove(employee.getId()));
+                throw new ResourceNotFoundException("Employee not found with id: " + ids.iterator().next());
+            }
+            rows = dailyHoursRepository.findProjectHoursByEmployeeIds(ids, weekStart, weekEnd);
+        } else {
+            employees = employeeRepository.findResponsesByDepartment(department);
+            if (employees.size() > maxPivotEmployees) {
+                throw new IllegalArgumentException("Pivot cannot include more than " + maxPivotEmployees + " employees");
+            }
+            rows = dailyHoursRepository.findProjectHoursByDepartment(department, weekStart, weekEnd);
+        }
+
+        // Rows arrive ordered by project name, which becomes each employee's column order
+        Map<Long, Grid> grids = new HashMap<>();
+        for (EmployeeProjectHours row : rows) {
+            grids.computeIfAbsent(row.getEmployeeId(), id -> new Grid())
+                    .add(row, (int) weekStart.until(row.getDate()).getDays());
+        }
+
+        long[] dailyTotals = new long[DAYS_PER_WEEK];
+        List<EmployeeWeekPivotResponse> pivots = new ArrayList<>(employees.size());
+        for (EmployeeResponse employee : employees) {
+            Grid grid = grids.getOrDefault(employee.getId(), new Grid());
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                dailyTotals[day] += grid.dayTotals[day];
+            }
+            pivots.add(grid.toResponse(employee, weekStart));
+        }
+
+        List<BigDecimal> teamDailyTotals = new ArrayList<>(DAYS_PER_WEEK);
+        long teamTotal = 0;
+        for (long dayTotal : dailyTotals) {
+            teamDailyTotals.add(QuarterHours.toHours(dayTotal));
+            teamTotal += dayTotal;
+        }
+        return WeeklyPivotResponse.builder()
+                .weekStart(weekStart)
+                .weekEnd(weekEnd)
+                .employees(pivots)
+                .dailyTotals(teamDailyTotals)
+                .totalHours(QuarterHours.toHours(teamTotal))
+                .build();
+    }
+
+    // One employee's week accumulated in quarter-hours: cells[project column][day]
+    private static final class Grid {
+        private final Map<Long, Integer> columns = new LinkedHashMap<>();
+        private final List<String> projectNames = new ArrayList<>();
+        private final List<int[]> cells = new ArrayList<>();
+        private final int[] dayTotals = new int[DAYS_PER_WEEK];
+
+        void add(EmployeeProjectHours row, int day) {
+            int column = columns.computeIfAbsent(row.getProjectId(), id -> {
+                projectNames.add(row.getProjectName());
+                cells.add(new int[DAYS_PER_WEEK]);
+                return cells.size() - 1;
+            });
+            cells.get(column)[day] += row.getQuarterHours();
+            dayTotals[day] += row.getQuarterHours();
+        }
+
+        EmployeeWeekPivotResponse toResponse(EmployeeResponse employee, LocalDate weekStart) {
+            List<ProjectHoursResponse> projects = new ArrayList<>(columns.size());
+            int total = 0;
+            for (Map.Entry<Long, Integer> column : columns.entrySet()) {
+                int projectTotal = 0;
+                for (int quarterHours : cells.get(column.getValue())) {
+                    projectTotal += quarterHours;
+                }
+                total += projectTotal;
+                projects.add(ProjectHoursResponse.builder()
+                        .projectId(column.getKey())
+                        .projectName(projectNames.get(column.getValue()))
+                        .hours(QuarterHours.toHours(projectTotal))
+                        .build());
+            }
+
+            List<PivotRowResponse> rows = new ArrayList<>(DAYS_PER_WEEK);
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                List<BigDecimal> hours = new ArrayList<>(cells.size());
+                for (int[] projectCells : cells) {
+                    hours.add(QuarterHours.toHours(projectCells[day]));
+                }
+                rows.add(PivotRowResponse.builder()
+                        .date(weekStart.plusDays(day))
+                        .hours(hours)
+                        .totalHours(QuarterHours.toHours(dayTotals[day]))
+                        .build());
+            }
+            return EmployeeWeekPivotResponse.builder()
+                    .employeeId(employee.getId())
+                    .employeeName(employee.getFirstName() + " " + employee.getLastName())
+                    .projects(projects)
+                    .rows(rows)
+                    .totalHours(QuarterHours.toHours(total))
+                    .build();
+        }
+    }
+}
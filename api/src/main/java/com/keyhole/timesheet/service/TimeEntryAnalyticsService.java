@@ -0,0 +1,407 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.EmployeeResponse;
+import com.keyhole.timesheet.dto.HoursBreakdownResponse;
+import com.keyhole.timesheet.dto.HoursBreakdownRow;
+import com.keyhole.timesheet.dto.ProjectResponse;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.entity.QuarterHours;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import com.keyhole.timesheet.repository.ProjectRepository;
+import com.keyhole.timesheet.repository.TimeEntryFact;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-memory analytics over every time entry. {@link TimeEntryColumns} is loaded once,
+ * before the web server takes requests, and then follows committed {@link TimeEntryChange}s.
+ * A breakdown filters, groups and sums hours in a parallel scan on the common fork-join pool
+ * without touching the database; departments and project codes are re-read only when the
+ * reference data versions move.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "timesheet.analytics.enabled", havingValue = "true")
+public class TimeEntryAnalyticsService implements SmartLifecycle {
+
+    // A scan is split into up to CHUNKS_PER_CORE chunks per core of at least MIN_CHUNK_ROWS rows
+    private static final int CHUNKS_PER_CORE = 4;
+    private static final int MIN_CHUNK_ROWS = 16_384;
+    // Up to this many groups each chunk sums into flat arrays, beyond it into a hash map
+    private static final int DENSE_GROUPS = 1 << 14;
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final TimeEntryArchiveService archiveService;
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final ReferenceDataVersions referenceDataVersions;
+    private final TransactionTemplate transactionTemplate;
+
+    private final TimeEntryColumns columns = new TimeEntryColumns();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile ReferenceData referenceData;
+    private volatile boolean running;
+
+    @Value("${timesheet.analytics.fetch-size}")
+    private int fetchSize;
+
+    @Override
+    public void start() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TimeEntryFact> facts = timeEntryRepository.streamFacts(fetchSize)) {
+                    facts.forEach(this::load);
+                }
+                // Archived rows never change, so the index keeps them as loaded
+                try (Stream<TimeEntryFact> facts = archiveService.streamFacts(fetchSize)) {
+                    facts.forEach(this::load);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        running = true;
+        log.info("Loaded {} time entries into the analytics index in {} ms", columns.size,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void load(TimeEntryFact fact) {
+        columns.upsert(fact.id(), Math.toIntExact(fact.employeeId()), Math.toIntExact(fact.projectId()),
+                (int) fact.date().toEpochDay(), fact.quarterHours());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Loaded before the web server starts taking requests
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TimeEntryChange change) {
+        lock.writeLock().lock();
+        try {
+            if (TimeEntryChange.DELETED.equals(change.type())) {
+                columns.remove(change.entryId());
+            } else {
+                TimeEntryResponse entry = change.entry();
+                columns.upsert(entry.getId(), Math.toIntExact(entry.getEmployeeId()),
+                        Math.toIntExact(entry.getProjectId()), (int) entry.getDate().toEpochDay(),
+                        QuarterHours.fromHours(entry.getHours()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Timed(value = "timesheet.service", histogram = true)
+    public HoursBreakdownResponse breakdown(List<AnalyticsDimension> groupBy, AnalyticsFilter filter) {
+        if (new HashSet<>(groupBy).size() != groupBy.size()) {
+            throw new IllegalArgumentException("Each groupBy dimension may appear only once");
+        }
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        ReferenceData reference = referenceData();
+
+        Plan plan;
+        Groups groups = null;
+        lock.readLock().lock();
+        try {
+            plan = plan(groupBy, filter, reference);
+            if (plan != null) {
+                groups = scan(plan);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<HoursBreakdownRow> rows = new ArrayList<>();
+        long[] totals = new long[2];
+        if (groups != null) {
+            groups.forEach((key, quarterHours, entries) -> {
+                rows.add(HoursBreakdownRow.builder()
+                        .key(plan.labels(key, reference))
+                        .hours(QuarterHours.toHours(quarterHours))
+                        .entries(entries)
+                        .build());
+                totals[0] += quarterHours;
+                totals[1] += entries;
+            });
+        }
+        return HoursBreakdownResponse.builder()
+                .groupBy(groupBy.stream().map(Enum::name).toList())
+                .rows(rows)
+                .totalHours(QuarterHours.toHours(totals[0]))
+                .entries(totals[1])
+                .build();
+    }
+
+    // Null when no row can match
+    private Plan plan(List<AnalyticsDimension> groupBy, AnalyticsFilter filter, ReferenceData reference) {
+        int from = columns.minDay;
+        int to = columns.maxDay;
+        if (filter.getStartDate() != null) {
+            from = (int) Math.max(from, filter.getStartDate().toEpochDay());
+        }
+        if (filter.getEndDate() != null) {
+            to = (int) Math.min(to, filter.getEndDate().toEpochDay());
+        }
+        if (columns.size == 0 || from > to) {
+            return null;
+        }
+
+        int[] departmentCodes = Arrays.copyOf(reference.departmentCodes(),
+                Math.max(reference.departmentCodes().length, columns.maxEmployee + 1));
+        boolean[] employeeAllowed = null;
+        Set<Long> employeeIds = toSet(filter.getEmployeeIds());
+        Set<String> departments = toSet(filter.getDepartments());
+        if (employeeIds != null || departments != null) {
+            employeeAllowed = new boolean[columns.maxEmployee + 1];
+            for (int employee = 0; employee < employeeAllowed.length; employee++) {
+                employeeAllowed[employee] = (employeeIds == null || employeeIds.contains((long) employee))
+                        && (departments == null
+                        || departments.contains(reference.department(departmentCodes[employee])));
+            }
+        }
+        boolean[] projectAllowed = null;
+        Set<Long> projectIds = toSet(filter.getProjectIds());
+        if (projectIds != null) {
+            projectAllowed = new boolean[columns.maxProject + 1];
+            for (int project = 0; project < projectAllowed.length; project++) {
+                projectAllowed[project] = projectIds.contains((long) project);
+            }
+        }
+
+        Column[] dimensions = new Column[groupBy.size()];
+        long groupCount = 1;
+        for (int i = 0; i < dimensions.length; i++) {
+            AnalyticsDimension dimension = groupBy.get(i);
+            dimensions[i] = switch (dimension) {
+                case EMPLOYEE -> new Column(dimension, columns.employees, null, 0, columns.maxEmployee + 1, 0);
+                case PROJECT -> new Column(dimension, columns.projects, null, 0, columns.maxProject + 1, 0);
+                case DEPARTMENT -> new Column(dimension, columns.employees, departmentCodes, 0,
+                        reference.departments().size() + 1, 0);
+                case YEAR, MONTH, DAY -> timeColumn(dimension, from, to);
+            };
+            try {
+                groupCount = Math.multiplyExact(groupCount, dimensions[i].cardinality());
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Too many groups; narrow the groupBy or the date range");
+            }
+        }
+        return new Plan(from, to, employeeAllowed, projectAllowed, dimensions, groupCount);
+    }
+
+    private Column timeColumn(AnalyticsDimension dimension, int from, int to) {
+        long base = dimension.bucket(LocalDate.ofEpochDay(from));
+        int[] codes = new int[to - from + 1];
+        for (int day = from; day <= to; day++) {
+            codes[day - from] = (int) (dimension.bucket(LocalDate.ofEpochDay(day)) - base);
+        }
+        return new Column(dimension, columns.days, codes, from, codes[codes.length - 1] + 1, base);
+    }
+
+    private Groups scan(Plan plan) {
+        int size = columns.size;
+        int chunks = (int) Math.max(1, Math.min(
+                (long) ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_CORE, size / MIN_CHUNK_ROWS));
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> plan.scan(columns,
+                        (int) ((long) size * chunk / chunks), (int) ((long) size * (chunk + 1) / chunks)))
+                .reduce(Groups::merge)
+                .orElseThrow();
+    }
+
+    private ReferenceData referenceData() {
+        String version = referenceDataVersions.employeesETag() + referenceDataVersions.projectsETag(null);
+        ReferenceData current = referenceData;
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+        // Version read first: a change while loading leaves a stale version and the next call reloads
+        List<EmployeeResponse> employees = employeeRepository.findAllResponses();
+        List<String> departments = new ArrayList<>(new TreeSet<>(employees.stream()
+                .map(EmployeeResponse::getDepartment)
+                .filter(Objects::nonNull)
+                .toList()));
+        int maxEmployee = employees.stream().mapToInt(employee -> Math.toIntExact(employee.getId())).max().orElse(0);
+        int[] departmentCodes = new int[maxEmployee + 1];
+        for (EmployeeResponse employee : employees) {
+            if (employee.getDepartment() != null) {
+                departmentCodes[Math.toIntExact(employee.getId())] =
+                        departments.indexOf(employee.getDepartment()) + 1;
+            }
+        }
+        Map<Integer, String> projectCodes = new HashMap<>();
+        for (ProjectResponse project : projectRepository.findAllResponses()) {
+            projectCodes.put(Math.toIntExact(project.getId()), project.getCode());
+        }
+        current = new ReferenceData(version, departments, departmentCodes, projectCodes);
+        referenceData = current;
+        return current;
+    }
+
+    private static <T> Set<T> toSet(Collection<T> values) {
+        return values == null || values.isEmpty() ? null : new HashSet<>(values);
+    }
+
+    // Department code 0 is "no department"; code n is departments[n - 1]
+    private record ReferenceData(String version, List<String> departments, int[] departmentCodes,
+                                 Map<Integer, String> projectCodes) {
+
+        String department(int code) {
+            return code == 0 ? null : departments.get(code - 1);
+        }
+    }
+
+    // Maps a row to a dense code in [0, cardinality): the column value itself, or via a lookup table
+    private record Column(AnalyticsDimension dimension, int[] values, int[] codes, int offset, int cardinality,
+                          long base) {
+
+        int code(int row) {
+            int value = values[row];
+            return codes == null ? value : codes[value - offset];
+        }
+
+        String label(int code, ReferenceData reference) {
+            return switch (dimension) {
+                case EMPLOYEE -> String.valueOf(code);
+                case PROJECT -> reference.projectCodes().getOrDefault(code, String.valueOf(code));
+                case DEPARTMENT -> reference.department(code);
+                case YEAR, MONTH, DAY -> dimension.label(base + code);
+            };
+        }
+    }
+
+    // Group keys combine the dimension codes in mixed radix, first dimension most significant
+    private record Plan(int from, int to, boolean[] employeeAllowed, boolean[] projectAllowed, Column[] dimensions,
+                        long groupCount) {
+
+        Groups scan(TimeEntryColumns columns, int start, int end) {
+            Groups groups = new Groups(groupCount);
+            int[] days = columns.days;
+            int[] employees = columns.employees;
+            int[] projects = columns.projects;
+            int[] quarterHours = columns.quarterHours;
+            for (int row = start; row < end; row++) {
+                int day = days[row];
+                if (day < from || day > to
+                        || (employeeAllowed != null && !employeeAllowed[employees[row]])
+                        || (projectAllowed != null && !projectAllowed[projects[row]])) {
+                    continue;
+                }
+                long key = 0;
+                for (Column dimension : dimensions) {
+                    key = key * dimension.cardinality() + dimension.code(row);
+                }
+                groups.add(key, quarterHours[row]);
+            }
+            return groups;
+        }
+
+        List<String> labels(long key, ReferenceData reference) {
+            String[] labels = new String[dimensions.length];
+            for (int i = dimensions.length - 1; i >= 0; i--) {
+                int cardinality = dimensions[i].cardinality();
+                labels[i] = dimensions[i].label((int) (key % cardinality), reference);
+                key /= cardinality;
+            }
+            return Arrays.asList(labels);
+        }
+    }
+
+    private interface GroupConsumer {
+        void accept(long key, long quarterHours, long entries);
+    }
+
+    // Quarter-hour and entry sums per group key
+    private static final class Groups {
+        private final long[] quarterHours;
+        private final long[] entries;
+        private final Map<Long, long[]> sparse;
+
+        Groups(long groupCount) {
+            boolean dense = groupCount <= DENSE_GROUPS;
+            quarterHours = dense ? new long[(int) groupCount] : null;
+            entries = dense ? new long[(int) groupCount] : null;
+            sparse = dense ? null : new HashMap<>();
+        }
+
+        void add(long key, long quarterHourCount) {
+            add(key, quarterHourCount, 1);
+        }
+
+        private void add(long key, long quarterHourCount, long entryCount) {
+            if (sparse == null) {
+                quarterHours[(int) key] += quarterHourCount;
+                entries[(int) key] += entryCount;
+            } else {
+                long[] sums = sparse.computeIfAbsent(key, k -> new long[2]);
+                sums[0] += quarterHourCount;
+                sums[1] += entryCount;
+            }
+        }
+
+        Groups merge(Groups other) {
+            if (other.sparse == null) {
+                other.forEach(this::add);
+            } else {
+                other.sparse.forEach((key, sums) -> add(key, sums[0], sums[1]));
+            }
+            return this;
+        }
+
+        // Non-empty groups in ascending key order
+        void forEach(GroupConsumer consumer) {
+            if (sparse == null) {
+                for (int key = 0; key < entries.length; key++) {
+                    if (entries[key] > 0) {
+                        consumer.accept(key, quarterHours[key], entries[key]);
+                    }
+                }
+            } else {
+                new TreeMap<>(sparse).forEach((key, sums) -> consumer.accept(key, sums[0], sums[1]));
+            }
+        }
+    }
+}
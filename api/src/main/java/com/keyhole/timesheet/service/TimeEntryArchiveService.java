@@ -0,0 +1,129 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.repository.ArchivedTimeEntryRepository;
+import com.keyhole.timesheet.repository.EmployeeProjectDayHours;
+import com.keyhole.timesheet.repository.TimeEntryFact;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Moves time entries older than the retention horizon from {@code time_entries} to
+ * {@code time_entries_archive}, {@code batch-size} rows per transaction. The day before the last
+ * cutoff is kept in memory so reads only touch the archive when their date range reaches it, and
+ * entries can no longer be written on or before it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeEntryArchiveService {
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Empty until first read; holds an empty Optional while the archive is empty
+    private volatile Optional<LocalDate> archivedThrough;
+
+    @Value("${timesheet.archive.horizon}")
+    private Period horizon;
+
+    @Value("${timesheet.archive.batch-size}")
+    private int batchSize;
+
+    public int archive() {
+        return archive(LocalDate.now().minus(horizon));
+    }
+
+    // Archives every entry dated before the cutoff and returns how many moved
+    public synchronized int archive(LocalDate cutoff) {
+        long started = System.nanoTime();
+        LocalDate through = cutoff.minusDays(1);
+        // Reads covering the dates being moved consult the archive before the first batch commits
+        if (archivedThrough().map(through::isAfter).orElse(true)) {
+            archivedThrough = Optional.of(through);
+        }
+        int moved = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> moveBatch(cutoff));
+            moved += batch;
+        } while (batch == batchSize);
+        log.info("Archived {} time entries dated before {} in {} ms", moved, cutoff,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return moved;
+    }
+
+    private int moveBatch(LocalDate cutoff) {
+        List<Long> ids = timeEntryRepository.findIdsDatedBeforeForUpdate(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedTimeEntryRepository.copyFromHotTable(ids);
+        timeEntryRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+
+    public Optional<LocalDate> archivedThrough() {
+        Optional<LocalDate> through = archivedThrough;
+        if (through == null) {
+            refresh();
+            through = archivedThrough;
+        }
+        return through;
+    }
+
+    // After a restart the boundary is the latest archived date until the next run raises it to its cutoff
+    void refresh() {
+        archivedThrough = Optional.ofNullable(archivedTimeEntryRepository.findLatestDate());
+    }
+
+    // True when a range starting at startDate (null = unbounded) may include archived entries
+    public boolean reaches(LocalDate startDate) {
+        return archivedThrough()
+                .map(through -> startDate == null || !startDate.isAfter(through))
+                .orElse(false);
+    }
+
+    public boolean isArchived(LocalDate date) {
+        return archivedThrough().map(through -> !date.isAfter(through)).orElse(false);
+    }
+
+    // Callers check reaches() first; must run inside a transaction
+    List<TimeEntryResponse> findResponses(TimeEntryFilter filter) {
+        return archivedTimeEntryRepository.findResponses(filter);
+    }
+
+    List<TimeEntryResponse> findResponsePage(TimeEntryFilter filter, LocalDate afterDate, Long afterId, int limit) {
+        return archivedTimeEntryRepository.findResponsePage(filter, afterDate, afterId, limit);
+    }
+
+    Stream<TimeEntryResponse> streamResponses(TimeEntryFilter filter, int fetchSize) {
+        return archivedTimeEntryRepository.streamResponses(filter, fetchSize);
+    }
+
+    List<EmployeeProjectDayHours> sumQuarterHoursByEmployeeIdsAndDateBetween(Collection<Long> employeeIds,
+                                                                            LocalDate startDate,
+                                                                            LocalDate endDate) {
+        return archivedTimeEntryRepository.sumQuarterHoursByEmployeeIdsAndDateBetween(employeeIds, startDate,
+                endDate);
+    }
+
+    // Must be consumed and closed inside a transaction
+    Stream<TimeEntryFact> streamFacts(int fetchSize) {
+        return archivedTimeEntryRepository.streamFacts(fetchSize);
+    }
+}
@@ -0,0 +1,32 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+
+import java.util.Set;
+
+/**
+ * Published by {@link TimeEntryService} for every mutation; reaches {@link TimeEntryChangeFeed}
+ * only once the transaction commits. {@code employeeIds} holds the owner before and after the
+ * change so a per-employee subscriber also sees entries moved away from them.
+ */
+public record TimeEntryChange(String type, Long entryId, TimeEntryResponse entry, Set<Long> employeeIds) {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    static TimeEntryChange created(TimeEntryResponse entry) {
+        return new TimeEntryChange(CREATED, entry.getId(), entry, Set.of(entry.getEmployeeId()));
+    }
+
+    static TimeEntryChange updated(TimeEntryResponse entry, Long previousEmployeeId) {
+        Set<Long> employeeIds = previousEmployeeId.equals(entry.getEmployeeId())
+                ? Set.of(previousEmployeeId)
+                : Set.of(previousEmployeeId, entry.getEmployeeId());
+        return new TimeEntryChange(UPDATED, entry.getId(), entry, employeeIds);
+    }
+
+    static TimeEntryChange deleted(Long entryId, Long employeeId) {
+        return new TimeEntryChange(DELETED, entryId, null, Set.of(employeeId));
+    }
+}
@@ -0,0 +1,129 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.TimeEntryChangeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory ring buffer of committed time entry changes, numbered by a sequence that starts
+ * again on every restart. Event ids combine a startup epoch with the sequence, so a client
+ * resuming with an id from another process, or one older than the buffer still holds, is
+ * told to reset (re-fetch its list) instead of silently missing changes.
+ */
+@Component
+public class TimeEntryChangeFeed {
+
+    private final long epoch = System.currentTimeMillis();
+    private final Stored[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    // Sequence of the most recent change; 0 before the first
+    private long latest;
+
+    public TimeEntryChangeFeed(@Value("${timesheet.change-feed.capacity}") int capacity) {
+        this.ring = new Stored[capacity];
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TimeEntryChange change) {
+        lock.lock();
+        try {
+            long seq = ++latest;
+            TimeEntryChangeResponse response = TimeEntryChangeResponse.builder()
+                    .eventId(eventId(seq))
+                    .type(change.type())
+                    .entryId(change.entryId())
+                    .entry(change.entry())
+                    .committedAt(Instant.now())
+                    .build();
+            ring[(int) (seq % ring.length)] = new Stored(response, change);
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    public long latest() {
+        lock.lock();
+        try {
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The sequence to resume after, or empty when the id cannot be resumed from this buffer
+    public OptionalLong resumeAfter(String lastEventId) {
+        int dash = lastEventId.indexOf('-');
+        try {
+            if (dash < 0 || Long.parseLong(lastEventId.substring(0, dash)) != epoch) {
+                return OptionalLong.empty();
+            }
+            long seq = Long.parseLong(lastEventId.substring(dash + 1));
+            lock.lock();
+            try {
+                return seq <= latest && !overrun(seq) ? OptionalLong.of(seq) : OptionalLong.empty();
+            } finally {
+                lock.unlock();
+            }
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Changes after {@code cursor}, optionally only those touching one employee, waiting up to
+     * {@code timeout} for one to arrive. {@code overrun} means changes after the cursor were
+     * already overwritten; the returned cursor then skips to the latest change.
+     */
+    public Batch await(long cursor, Long employeeId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        lock.lock();
+        try {
+            while (true) {
+                if (overrun(cursor)) {
+                    return new Batch(List.of(), latest, true);
+                }
+                List<TimeEntryChangeResponse> changes = new ArrayList<>();
+                for (long seq = cursor + 1; seq <= latest; seq++) {
+                    Stored stored = ring[(int) (seq % ring.length)];
+                    if (employeeId == null || stored.change().employeeIds().contains(employeeId)) {
+                        changes.add(stored.response());
+                    }
+                }
+                cursor = latest;
+                long remaining = deadline - System.nanoTime();
+                if (!changes.isEmpty() || remaining <= 0) {
+                    return new Batch(changes, cursor, false);
+                }
+                appended.await(remaining, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean overrun(long cursor) {
+        return latest - cursor > ring.length;
+    }
+
+    public record Batch(List<TimeEntryChangeResponse> changes, long cursor, boolean overrun) {
+    }
+
+    private record Stored(TimeEntryChangeResponse response, TimeEntryChange change) {
+    }
+}
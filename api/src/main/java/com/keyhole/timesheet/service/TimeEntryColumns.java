@@ -0,0 +1,76 @@
+package com.keyhole.timesheet.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Time entries as parallel primitive arrays, one row per entry: employee and project ids,
+ * epoch days and quarter-hours. Deleting swaps the last row into the gap, so rows
+ * {@code [0, size)} are always live and a scan is a straight pass over the arrays.
+ * Not thread-safe; {@link TimeEntryAnalyticsService} guards it with a read-write lock.
+ */
+final class TimeEntryColumns {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    long[] ids = new long[INITIAL_CAPACITY];
+    int[] employees = new int[INITIAL_CAPACITY];
+    int[] projects = new int[INITIAL_CAPACITY];
+    int[] days = new int[INITIAL_CAPACITY];
+    int[] quarterHours = new int[INITIAL_CAPACITY];
+    int size;
+
+    // Bounds only ever widen; deletes leave them as they were
+    int maxEmployee;
+    int maxProject;
+    int minDay = Integer.MAX_VALUE;
+    int maxDay = Integer.MIN_VALUE;
+
+    private final Map<Long, Integer> rows = new HashMap<>();
+
+    void upsert(long id, int employee, int project, int day, int quarterHourCount) {
+        Integer row = rows.get(id);
+        if (row == null) {
+            if (size == ids.length) {
+                grow();
+            }
+            row = size++;
+            rows.put(id, row);
+            ids[row] = id;
+        }
+        employees[row] = employee;
+        projects[row] = project;
+        days[row] = day;
+        quarterHours[row] = quarterHourCount;
+        maxEmployee = Math.max(maxEmployee, employee);
+        maxProject = Math.max(maxProject, project);
+        minDay = Math.min(minDay, day);
+        maxDay = Math.max(maxDay, day);
+    }
+
+    void remove(long id) {
+        Integer row = rows.remove(id);
+        if (row == null) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            employees[row] = employees[last];
+            projects[row] = projects[last];
+            days[row] = days[last];
+            quarterHours[row] = quarterHours[last];
+            rows.put(ids[row], row);
+        }
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        employees = Arrays.copyOf(employees, capacity);
+        projects = Arrays.copyOf(projects, capacity);
+        days = Arrays.copyOf(days, capacity);
+        quarterHours = Arrays.copyOf(quarterHours, capacity);
+    }
+}
@@ -0,0 +1,53 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Opaque keyset position for paging time entries ordered by (date, id).
+ */
+final class TimeEntryCursor {
+
+    static final Comparator<TimeEntryResponse> ORDER =
+            Comparator.comparing(TimeEntryResponse::getDate).thenComparing(TimeEntryResponse::getId);
+
+    private final LocalDate date;
+    private final Long id;
+
+    TimeEntryCursor(LocalDate date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    LocalDate getDate() {
+        return date;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String encode() {
+        String raw = date + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TimeEntryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TimeEntryCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
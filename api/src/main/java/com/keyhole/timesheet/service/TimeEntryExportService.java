@@ -0,0 +1,155 @@
+package com.keyhole.timesheet.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "timesheet.service", histogram = true)
+public class TimeEntryExportService {
+
+    private static final String CSV_HEADER =
+            "id,employeeId,employeeName,projectId,projectName,date,hours,description";
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final ObjectMapper objectMapper;
+    private final TimeEntryArchiveService archiveService;
+
+    @Value("${timesheet.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public void export(TimeEntryFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        // Hot rows are opened first, as in TimeEntryService.findAll; both streams are ordered by (date, id)
+        try (Stream<TimeEntryResponse> hot = timeEntryRepository.streamResponses(filter, fetchSize);
+             Stream<TimeEntryResponse> archived = archiveService.reaches(filter.getStartDate())
+                     ? archiveService.streamResponses(filter, fetchSize)
+                     : Stream.empty()) {
+            Iterator<TimeEntryResponse> iterator = new MergedRows(hot.iterator(), archived.iterator());
+            switch (format) {
+                case NDJSON -> writeNdjson(iterator, out);
+                case CSV -> writeCsv(iterator, out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<TimeEntryResponse> rows, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TimeEntryResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        int written = 0;
+        while (rows.hasNext()) {
+            writer.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            if (++written % fetchSize == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<TimeEntryResponse> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        int written = 0;
+        while (rows.hasNext()) {
+            TimeEntryResponse row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getEmployeeId()));
+            writer.write(',');
+            writer.write(csvField(row.getEmployeeName()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getProjectId()));
+            writer.write(',');
+            writer.write(csvField(row.getProjectName()));
+            writer.write(',');
+            writer.write(row.getDate().toString());
+            writer.write(',');
+            writer.write(row.getHours().toPlainString());
+            writer.write(',');
+            writer.write(csvField(row.getDescription()));
+            writer.write('\n');
+            if (++written % fetchSize == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // Merges two (date, id) ordered iterators; a row archived mid-export appears in both and is written once
+    private static final class MergedRows implements Iterator<TimeEntryResponse> {
+
+        private final Iterator<TimeEntryResponse> hot;
+        private final Iterator<TimeEntryResponse> archived;
+        private TimeEntryResponse nextHot;
+        private TimeEntryResponse nextArchived;
+
+        private MergedRows(Iterator<TimeEntryResponse> hot, Iterator<TimeEntryResponse> archived) {
+            this.hot = hot;
+            this.archived = archived;
+            this.nextHot = advance(hot);
+            this.nextArchived = advance(archived);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextHot != null || nextArchived != null;
+        }
+
+        @Override
+        public TimeEntryResponse next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int order = nextHot == null ? 1
+                    : nextArchived == null ? -1
+                    : TimeEntryCursor.ORDER.compare(nextHot, nextArchived);
+            TimeEntryResponse row = order <= 0 ? nextHot : nextArchived;
+            if (order <= 0) {
+                nextHot = advance(hot);
+            }
+            if (order >= 0) {
+                nextArchived = advance(archived);
+            }
+            return row;
+        }
+
+        private static TimeEntryResponse advance(Iterator<TimeEntryResponse> rows) {
+            return rows.hasNext() ? rows.next() : null;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.keyhole.timesheet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.BulkTimeEntryResponse;
+import com.keyhole.timesheet.dto.BulkTimeEntryResult;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.dto.TimeEntrySubmissionResponse;
+import com.keyhole.timesheet.entity.TimeEntrySubmission;
+import com.keyhole.timesheet.exception.IngestQueueFullException;
+import com.keyhole.timesheet.exception.ResourceNotFoundException;
+import com.keyhole.timesheet.repository.TimeEntrySubmissionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind ingestion for time entries. {@link #submit} runs the stateless rules, journals the
+ * request and queues it; a single writer thread drains the queue in batches through
+ * {@link TimeEntryService#createAll}, recording each outcome as a {@link TimeEntrySubmission} in the
+ * same transaction. Rules that need the database (existence, the daily limit) therefore surface
+ * later as a {@code REJECTED} status rather than a 400.
+ * <p>
+ * Accepted submissions survive a crash: on start the journal is replayed, skipping ids that
+ * already have an outcome row. A batch that fails {@code MAX_BATCH_ATTEMPTS} times is retried one
+ * submission at a time, and submissions that still cannot be written are rejected.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "timesheet.async-ingest.enabled", havingValue = "true")
+public class TimeEntryIngestService implements SmartLifecycle {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    private static final int LOOKUP_CHUNK = 1000;
+    // Failed attempts before a batch is split into single-submission writes
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    // time_entry_submissions.error
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final TimeEntryService timeEntryService;
+    private final TimeEntrySubmissionRepository submissionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final IngestJournal journal;
+    private final Counter rejections;
+    private final Counter writeFailures;
+
+    // Accepted and not yet committed, including the batch being written
+    private final Map<String, QueuedSubmission> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<QueuedSubmission> queue = new LinkedBlockingQueue<>();
+    // Guards the journal and the capacity check so a journaled submission is always queued
+    private final Object lock = new Object();
+    private volatile boolean running;
+    private Thread writer;
+
+    public TimeEntryIngestService(TimeEntryService timeEntryService,
+                                  TimeEntrySubmissionRepository submissionRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${timesheet.async-ingest.queue-capacity}") int capacity,
+                                  @Value("${timesheet.async-ingest.batch-size}") int batchSize,
+                                  @Value("${timesheet.async-ingest.journal}") Path journalPath,
+                                  @Value("${timesheet.async-ingest.journal-sync}") boolean journalSync)
+            throws IOException {
+        this.timeEntryService = timeEntryService;
+        this.submissionRepository = submissionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.journal = new IngestJournal(journalPath, objectMapper, journalSync);
+        this.rejections = meterRegistry.counter("timesheet.ingest.rejections");
+        this.writeFailures = meterRegistry.counter("timesheet.ingest.write-failures");
+        Gauge.builder("timesheet.ingest.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public TimeEntrySubmissionResponse submit(TimeEntryRequest request) {
+        timeEntryService.validateRequestRules(request);
+        QueuedSubmission submission = new QueuedSubmission(UUID.randomUUID().toString(), request);
+        synchronized (lock) {
+            if (pending.size() >= capacity) {
+                rejections.increment();
+                throw new IngestQueueFullException("Submission queue is full, please retry");
+            }
+            try {
+                journal.append(submission);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not journal submission", e);
+            }
+            pending.put(submission.id(), submission);
+            queue.add(submission);
+        }
+        return TimeEntrySubmissionResponse.builder()
+                .id(submission.id())
+                .status(QUEUED)
+                .build();
+    }
+
+    public TimeEntrySubmissionResponse status(String id) {
+        // Checked before the table: the writer removes ids only after their outcome commits
+        if (pending.containsKey(id)) {
+            return TimeEntrySubmissionResponse.builder().id(id).status(QUEUED).build();
+        }
+        TimeEntrySubmission submission = submissionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Submission not found with id: " + id));
+        return TimeEntrySubmissionResponse.builder()
+                .id(submission.getId())
+                .status(submission.getTimeEntryId() != null ? CREATED : REJECTED)
+                .timeEntryId(submission.getTimeEntryId())
+                .error(submission.getError())
+                .build();
+    }
+
+    @Override
+    public void start() {
+        synchronized (lock) {
+            try {
+                replay();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not replay submission journal", e);
+            }
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("time-entry-ingest").daemon().start(this::drain);
+    }
+
+    // Stops the writer after its current batch; submissions are still accepted and journaled
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @PreDestroy
+    void closeJournal() throws IOException {
+        synchronized (lock) {
+            journal.close();
+        }
+    }
+
+    private void replay() throws IOException {
+        Map<String, QueuedSubmission> journaled = new LinkedHashMap<>();
+        for (QueuedSubmission submission : journal.read()) {
+            journaled.putIfAbsent(submission.id(), submission);
+        }
+        List<String> ids = new ArrayList<>(journaled.keySet());
+        Set<String> processed = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + LOOKUP_CHUNK));
+            // Read-write so the lookup sees the primary even when reads are routed to a replica
+            processed.addAll(transactionTemplate.execute(status -> submissionRepository.findExistingIds(chunk)));
+        }
+        int replayed = 0;
+        for (QueuedSubmission submission : journaled.values()) {
+            if (!processed.contains(submission.id()) && pending.putIfAbsent(submission.id(), submission) == null) {
+                queue.add(submission);
+                replayed++;
+            }
+        }
+        journal.rewrite(pending.values());
+        if (replayed > 0) {
+            log.info("Replayed {} journaled time entry submissions", replayed);
+        }
+    }
+
+    private void drain() {
+        List<QueuedSubmission> batch = new ArrayList<>(batchSize);
+        Duration backoff = POLL_INTERVAL;
+        int failures = 0;
+        while (running || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    QueuedSubmission first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                if (failures < MAX_BATCH_ATTEMPTS) {
+                    write(batch);
+                } else {
+                    writeOneByOne(batch);
+                }
+                batch.clear();
+                backoff = POLL_INTERVAL;
+                failures = 0;
+                truncateJournalIfDrained();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Nothing was committed; keep the batch and retry, it is still journaled
+                failures++;
+                log.warn("Writing {} time entry submissions failed, retrying in {}", batch.size(), backoff, e);
+                if (!running) {
+                    requeue(batch);
+                    return;
+                }
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void write(List<QueuedSubmission> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BulkTimeEntryResponse response = timeEntryService.createAll(
+                    batch.stream().map(QueuedSubmission::request).toList());
+            Instant processedAt = Instant.now();
+            List<TimeEntrySubmission> outcomes = new ArrayList<>(batch.size());
+            for (BulkTimeEntryResult result : response.getResults()) {
+                outcomes.add(TimeEntrySubmission.builder()
+                        .id(batch.get(result.getIndex()).id())
+                        .timeEntryId(result.isCreated() ? result.getEntry().getId() : null)
+                        .error(result.getError())
+                        .processedAt(processedAt)
+                        .build());
+            }
+            submissionRepository.saveAll(outcomes);
+        });
+        batch.forEach(submission -> pending.remove(submission.id()));
+    }
+
+    // A batch that keeps failing is written one submission per transaction; the ones that still fail
+    // are recorded as rejected so they cannot block the queue. Each is removed from the batch once
+    // its outcome commits, so a failure to record it leaves it, and the rest, for the next attempt.
+    private void writeOneByOne(List<QueuedSubmission> batch) {
+        boolean rejected = false;
+        for (Iterator<QueuedSubmission> it = batch.iterator(); it.hasNext(); ) {
+            QueuedSubmission submission = it.next();
+            try {
+                write(List.of(submission));
+            } catch (RuntimeException e) {
+                log.warn("Rejecting time entry submission {} after repeated write failures", submission.id(), e);
+                reject(submission, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                rejected = true;
+            }
+            it.remove();
+        }
+        if (rejected) {
+            dropFromJournal();
+        }
+    }
+
+    private void reject(QueuedSubmission submission, String cause) {
+        String error = "Could not be written: " + cause;
+        transactionTemplate.executeWithoutResult(status -> submissionRepository.save(TimeEntrySubmission.builder()
+                .id(submission.id())
+                .error(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+                .processedAt(Instant.now())
+                .build()));
+        writeFailures.increment();
+        pending.remove(submission.id());
+    }
+
+    // Rewrites the journal to the submissions still pending
+    private void dropFromJournal() {
+        synchronized (lock) {
+            try {
+                journal.rewrite(pending.values());
+            } catch (IOException e) {
+                // Replay skips them anyway: they have an outcome row
+                log.warn("Could not rewrite submission journal", e);
+            }
+        }
+    }
+
+    // The writer is stopping with a failed batch: put it back so a restart of the writer picks it up
+    private void requeue(List<QueuedSubmission> batch) {
+        List<QueuedSubmission> rest = new ArrayList<>(batch);
+        queue.drainTo(rest);
+        queue.addAll(rest);
+    }
+
+    private void truncateJournalIfDrained() {
+        synchronized (lock) {
+            if (!pending.isEmpty()) {
+                return;
+            }
+            try {
+                journal.truncate();
+            } catch (IOException e) {
+                log.warn("Could not truncate submission journal", e);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
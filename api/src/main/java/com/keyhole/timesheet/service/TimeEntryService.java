@@ -1,133 +1,414 @@
 package com.keyhole.timesheet.service;
 
+import com.keyhole.timesheet.dto.BulkTimeEntryResponse;
+import com.keyhole.timesheet.dto.BulkTimeEntryResult;
+import com.keyhole.timesheet.dto.NormalizedTimeEntriesResponse;
+import com.keyhole.timesheet.dto.NormalizedTimeEntry;
+import com.keyhole.timesheet.dto.ProjectResponse;
+import com.keyhole.timesheet.dto.TimeEntryPageResponse;
 import com.keyhole.timesheet.dto.TimeEntryRequest;
 import com.keyhole.timesheet.dto.TimeEntryResponse;
 import com.keyhole.timesheet.entity.Employee;
 import com.keyhole.timesheet.entity.Project;
+import com.keyhole.timesheet.entity.QuarterHours;
 import com.keyhole.timesheet.entity.TimeEntry;
 import com.keyhole.timesheet.exception.ResourceNotFoundException;
+import com.keyhole.timesheet.repository.EmployeeDayHours;
 import com.keyhole.timesheet.repository.EmployeeRepository;
 import com.keyhole.timesheet.repository.ProjectRepository;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
 import com.keyhole.timesheet.repository.TimeEntryRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "timesheet.service", histogram = true)
 public class TimeEntryService {
 
+    private static final String RULE_QUARTER_INCREMENTS = "quarter_increments";
+    private static final String RULE_HOURS_RANGE = "hours_range";
+    private static final String RULE_FUTURE_DATE = "future_date";
+    private static final String RULE_DAILY_LIMIT = "daily_limit";
+    private static final String RULE_ARCHIVED_DATE = "archived_date";
+
     private final TimeEntryRepository timeEntryRepository;
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
+    private final Validator validator;
+    private final DailyHoursService dailyHoursService;
+    private final ProjectService projectService;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimeEntryArchiveService archiveService;
+
+    @Value("${timesheet.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${timesheet.pagination.max-page-size:500}")
+    private int maxPageSize;
 
-    public List<TimeEntryResponse> findAll(Long employeeId, Long projectId, LocalDate startDate, LocalDate endDate) {
-        List<TimeEntry> entries;
-        if (employeeId != null && startDate != null && endDate != null) {
-            entries = timeEntryRepository.findByEmployeeIdAndDateBetween(employeeId, startDate, endDate);
-        } else if (employeeId != null) {
-            entries = timeEntryRepository.findByEmployeeId(employeeId);
-        } else if (projectId != null) {
-            entries = timeEntryRepository.findByProjectId(projectId);
-        } else {
-            entries = timeEntryRepository.findAll();
+    @Value("${timesheet.bulk.max-size:1000}")
+    private int maxBulkSize;
+
+    @Transactional(readOnly = true)
+    public List<TimeEntryResponse> findAll(TimeEntryFilter filter) {
+        List<TimeEntryResponse> hot = timeEntryRepository.findResponses(filter);
+        if (!archiveService.reaches(filter.getStartDate())) {
+            return hot;
+        }
+        // Hot rows are read first: a row archived in between shows up in both results rather than neither
+        Map<Long, TimeEntryResponse> merged = new TreeMap<>();
+        for (TimeEntryResponse response : archiveService.findResponses(filter)) {
+            merged.put(response.getId(), response);
         }
-        return entries.stream().map(this::toResponse).toList();
+        for (TimeEntryResponse response : hot) {
+            merged.putIfAbsent(response.getId(), response);
+        }
+        return new ArrayList<>(merged.values());
     }
 
+    @Transactional(readOnly = true)
+    public NormalizedTimeEntriesResponse findAllNormalized(TimeEntryFilter filter) {
+        List<TimeEntryResponse> responses = findAll(filter);
+        List<NormalizedTimeEntry> entries = new ArrayList<>(responses.size());
+        Map<Long, String> employees = new LinkedHashMap<>();
+        Map<Long, String> projects = new LinkedHashMap<>();
+        for (TimeEntryResponse response : responses) {
+            entries.add(NormalizedTimeEntry.builder()
+                    .id(response.getId())
+                    .employeeId(response.getEmployeeId())
+                    .projectId(response.getProjectId())
+                    .date(response.getDate())
+                    .hours(response.getHours())
+                    .description(response.getDescription())
+                    .build());
+            employees.putIfAbsent(response.getEmployeeId(), response.getEmployeeName());
+            projects.putIfAbsent(response.getProjectId(), response.getProjectName());
+        }
+        return NormalizedTimeEntriesResponse.builder()
+                .entries(entries)
+                .employees(employees)
+                .projects(projects)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public TimeEntryPageResponse findPage(TimeEntryFilter filter, String cursor, Integer size) {
+        int pageSize = (size != null) ? size : defaultPageSize;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        pageSize = Math.min(pageSize, maxPageSize);
+
+        TimeEntryCursor after = (cursor != null && !cursor.isBlank()) ? TimeEntryCursor.decode(cursor) : null;
+        LocalDate afterDate = after != null ? after.getDate() : null;
+        Long afterId = after != null ? after.getId() : null;
+        // Fetch one extra row to find out whether another page follows
+        List<TimeEntryResponse> entries = timeEntryRepository.findResponsePage(filter, afterDate, afterId, pageSize + 1);
+        if (archiveService.reaches(afterDate != null ? afterDate : filter.getStartDate())) {
+            // Hot rows first, as in findAll; a row archived in between has the same key in both pages
+            Set<TimeEntryResponse> merged = new TreeSet<>(TimeEntryCursor.ORDER);
+            merged.addAll(entries);
+            merged.addAll(archiveService.findResponsePage(filter, afterDate, afterId, pageSize + 1));
+            entries = merged.stream().limit(pageSize + 1).toList();
+        }
+
+        String next = null;
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            TimeEntryResponse last = entries.get(pageSize - 1);
+            next = new TimeEntryCursor(last.getDate(), last.getId()).encode();
+        }
+        return TimeEntryPageResponse.builder()
+                .items(entries)
+                .next(next)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public TimeEntryResponse findById(Long id) {
-        TimeEntry entry = timeEntryRepository.findById(id)
+        return timeEntryRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Time entry not found with id: " + id));
-        return toResponse(entry);
     }
 
+    @Transactional
     public TimeEntryResponse create(TimeEntryRequest request) {
-        validateBusinessRules(request, null);
-
-        Employee employee = employeeRepository.findById(request.getEmployeeId())
+        // Lock the employee before reading the day's total so concurrent submissions cannot both pass
+        Employee employee = employeeRepository.findByIdForUpdate(request.getEmployeeId())
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + request.getEmployeeId()));
-        Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + request.getProjectId()));
+        int quarterHours = validateBusinessRules(request, null);
+        // Existence and name come from the reference data cache; the entity only needs a reference
+        ProjectResponse project = projectService.findById(request.getProjectId());
 
         TimeEntry entry = TimeEntry.builder()
                 .employee(employee)
-                .project(project)
+                .project(projectRepository.getReferenceById(project.getId()))
                 .date(request.getDate())
-                .hours(request.getHours())
+                .quarterHours(quarterHours)
                 .description(request.getDescription())
                 .build();
-        return toResponse(timeEntryRepository.save(entry));
+        TimeEntry saved = timeEntryRepository.save(entry);
+        dailyHoursService.add(saved);
+        TimeEntryResponse response = toResponse(saved, project);
+        eventPublisher.publishEvent(TimeEntryChange.created(response));
+        return response;
     }
 
+    @Transactional
     public TimeEntryResponse update(Long id, TimeEntryRequest request) {
-        TimeEntry entry = timeEntryRepository.findById(id)
+        TimeEntry entry = timeEntryRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Time entry not found with id: " + id));
 
-        validateBusinessRules(request, entry);
-
-        Employee employee = employeeRepository.findById(request.getEmployeeId())
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + request.getEmployeeId()));
-        Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + request.getProjectId()));
+        // Lock both the current and the target employee, in id order, before touching their totals
+        Long currentEmployeeId = entry.getEmployee().getId();
+        Set<Long> employeeIds = new HashSet<>(List.of(currentEmployeeId, request.getEmployeeId()));
+        Map<Long, Employee> employees = employeeRepository.findAllByIdForUpdate(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        Employee employee = employees.get(request.getEmployeeId());
+        if (employee == null) {
+            throw new ResourceNotFoundException("Employee not found with id: " + request.getEmployeeId());
+        }
+        int quarterHours = validateBusinessRules(request, entry);
+        // Existence and name come from the reference data cache; the entity only needs a reference
+        ProjectResponse project = projectService.findById(request.getProjectId());
 
+        dailyHoursService.remove(entry);
         entry.setEmployee(employee);
-        entry.setProject(project);
+        entry.setProject(projectRepository.getReferenceById(project.getId()));
         entry.setDate(request.getDate());
-        entry.setHours(request.getHours());
+        entry.setQuarterHours(quarterHours);
         entry.setDescription(request.getDescription());
-        return toResponse(timeEntryRepository.save(entry));
+        TimeEntry saved = timeEntryRepository.save(entry);
+        dailyHoursService.add(saved);
+        TimeEntryResponse response = toResponse(saved, project);
+        eventPublisher.publishEvent(TimeEntryChange.updated(response, currentEmployeeId));
+        return response;
     }
 
-    private void validateBusinessRules(TimeEntryRequest request, TimeEntry existingEntry) {
-        // Hours must be in 0.25 increments
-        BigDecimal remainder = request.getHours().remainder(new BigDecimal("0.25"));
-        if (remainder.compareTo(BigDecimal.ZERO) != 0) {
-            throw new IllegalArgumentException("Hours must be in 0.25 increments");
+    @Transactional
+    public BulkTimeEntryResponse createAll(List<TimeEntryRequest> requests) {
+        if (requests.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Bulk request cannot contain more than " + maxBulkSize + " entries");
         }
 
-        // Hours must be between 0.25 and 24
-        if (request.getHours().compareTo(new BigDecimal("0.25")) < 0 || request.getHours().compareTo(new BigDecimal("24")) > 0) {
-            throw new IllegalArgumentException("Hours must be between 0.25 and 24");
+        BulkTimeEntryResult[] results = new BulkTimeEntryResult[requests.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validateRequest(requests.get(i));
+            if (error != null) {
+                results[i] = rejected(i, error);
+            } else {
+                candidates.add(i);
+            }
         }
 
-        // Date cannot be in the future
-        if (request.getDate().isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("Date cannot be in the future");
+        // One existence check per batch for employees and projects; employee rows stay locked until commit
+        Set<Long> employeeIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        for (int i : candidates) {
+            employeeIds.add(requests.get(i).getEmployeeId());
+            projectIds.add(requests.get(i).getProjectId());
+        }
+        Map<Long, Employee> employees = employeeRepository.findAllByIdForUpdate(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        Map<Long, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        // One pre-aggregated hours lookup covering every employee/day in the batch
+        Map<Long, Map<LocalDate, Integer>> dailyHours = new HashMap<>();
+        if (!candidates.isEmpty()) {
+            LocalDate startDate = candidates.stream().map(i -> requests.get(i).getDate())
+                    .min(Comparator.naturalOrder()).orElseThrow();
+            LocalDate endDate = candidates.stream().map(i -> requests.get(i).getDate())
+                    .max(Comparator.naturalOrder()).orElseThrow();
+            for (EmployeeDayHours day : dailyHoursService.totalsFor(employees.keySet(), startDate, endDate)) {
+                dailyHours.computeIfAbsent(day.getEmployeeId(), id -> new HashMap<>())
+                        .put(day.getDate(), (int) day.getQuarterHours());
+            }
+        }
+
+        List<Integer> accepted = new ArrayList<>();
+        List<TimeEntry> entries = new ArrayList<>();
+        for (int i : candidates) {
+            TimeEntryRequest request = requests.get(i);
+            Employee employee = employees.get(request.getEmployeeId());
+            Project project = projects.get(request.getProjectId());
+            if (employee == null) {
+                results[i] = rejected(i, "Employee not found with id: " + request.getEmployeeId());
+                continue;
+            }
+            if (project == null) {
+                results[i] = rejected(i, "Project not found with id: " + request.getProjectId());
+                continue;
+            }
+            int quarterHours = QuarterHours.fromHours(request.getHours());
+            Map<LocalDate, Integer> employeeDays = dailyHours.computeIfAbsent(employee.getId(), id -> new HashMap<>());
+            int totalQuarterHours = employeeDays.getOrDefault(request.getDate(), 0) + quarterHours;
+            if (totalQuarterHours > QuarterHours.MAX_PER_DAY) {
+                countRejection(RULE_DAILY_LIMIT);
+                results[i] = rejected(i, "Total hours per employee per day cannot exceed 24");
+                continue;
+            }
+            employeeDays.put(request.getDate(), totalQuarterHours);
+            accepted.add(i);
+            entries.add(TimeEntry.builder()
+                    .employee(employee)
+                    .project(project)
+                    .date(request.getDate())
+                    .quarterHours(quarterHours)
+                    .description(request.getDescription())
+                    .build());
         }
 
+        List<TimeEntry> saved = timeEntryRepository.saveAll(entries);
+        dailyHoursService.addAll(saved);
+        for (int n = 0; n < saved.size(); n++) {
+            int i = accepted.get(n);
+            TimeEntryResponse response = toResponse(saved.get(n), toProjectResponse(saved.get(n).getProject()));
+            eventPublisher.publishEvent(TimeEntryChange.created(response));
+            results[i] = BulkTimeEntryResult.builder()
+                    .index(i)
+                    .created(true)
+                    .entry(response)
+                    .build();
+        }
+        return BulkTimeEntryResponse.builder()
+                .createdCount(saved.size())
+                .failedCount(requests.size() - saved.size())
+                .results(List.of(results))
+                .build();
+    }
+
+    private String validateRequest(TimeEntryRequest request) {
+        if (request == null) {
+            return "Entry is required";
+        }
+        Set<ConstraintViolation<TimeEntryRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        try {
+            validateRequestRules(request);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private BulkTimeEntryResult rejected(int index, String error) {
+        return BulkTimeEntryResult.builder()
+                .index(index)
+                .created(false)
+                .error(error)
+                .build();
+    }
+
+    // Callers must hold the employee's row lock so the daily total cannot change before the write commits
+    // Returns the request's hours as quarter-hours
+    int validateBusinessRules(TimeEntryRequest request, TimeEntry existingEntry) {
+        int quarterHours = validateRequestRules(request);
+
         // Total hours per employee per day cannot exceed 24
-        BigDecimal existingHours = timeEntryRepository.sumHoursByEmployeeIdAndDate(
-                request.getEmployeeId(), request.getDate());
+        int existingQuarterHours = dailyHoursService.totalFor(request.getEmployeeId(), request.getDate());
         // If updating, subtract the existing entry's hours
         if (existingEntry != null && existingEntry.getEmployee().getId().equals(request.getEmployeeId())
                 && existingEntry.getDate().equals(request.getDate())) {
-            existingHours = existingHours.subtract(existingEntry.getHours());
+            existingQuarterHours -= existingEntry.getQuarterHours();
         }
-        BigDecimal totalHours = existingHours.add(request.getHours());
-        if (totalHours.compareTo(new BigDecimal("24")) > 0) {
-            throw new IllegalArgumentException("Total hours per employee per day cannot exceed 24");
+        if (existingQuarterHours + quarterHours > QuarterHours.MAX_PER_DAY) {
+            throw rejection(RULE_DAILY_LIMIT, "Total hours per employee per day cannot exceed 24");
         }
+        return quarterHours;
     }
 
-    public void delete(Long id) {
-        if (!timeEntryRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Time entry not found with id: " + id);
+    // Returns the request's hours as quarter-hours
+    int validateRequestRules(TimeEntryRequest request) {
+        // Hours must be in 0.25 increments
+        int quarterHours = QuarterHours.fromHours(request.getHours());
+        if (quarterHours == QuarterHours.NOT_QUARTERS) {
+            throw rejection(RULE_QUARTER_INCREMENTS, "Hours must be in 0.25 increments");
+        }
+
+        // Hours must be between 0.25 and 24
+        if (quarterHours < QuarterHours.MIN_PER_ENTRY || quarterHours > QuarterHours.MAX_PER_DAY) {
+            throw rejection(RULE_HOURS_RANGE, "Hours must be between 0.25 and 24");
+        }
+
+        // Date cannot be in the future
+        if (request.getDate().isAfter(LocalDate.now())) {
+            throw rejection(RULE_FUTURE_DATE, "Date cannot be in the future");
+        }
+
+        // Archived periods are closed
+        if (archiveService.isArchived(request.getDate())) {
+            throw rejection(RULE_ARCHIVED_DATE, "Date falls in an archived period");
         }
-        timeEntryRepository.deleteById(id);
+        return quarterHours;
+    }
+
+    private IllegalArgumentException rejection(String rule, String message) {
+        countRejection(rule);
+        return new IllegalArgumentException(message);
+    }
+
+    private void countRejection(String rule) {
+        meterRegistry.counter("timesheet.validation.rejections", "rule", rule).increment();
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        TimeEntry entry = timeEntryRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Time entry not found with id: " + id));
+        employeeRepository.findByIdForUpdate(entry.getEmployee().getId());
+        dailyHoursService.remove(entry);
+        timeEntryRepository.delete(entry);
+        eventPublisher.publishEvent(TimeEntryChange.deleted(id, entry.getEmployee().getId()));
+    }
+
+    private ProjectResponse toProjectResponse(Project project) {
+        return ProjectResponse.builder()
+                .id(project.getId())
+                .name(project.getName())
+                .code(project.getCode())
+                .description(project.getDescription())
+                .active(project.getActive())
+                .build();
     }
 
-    private TimeEntryResponse toResponse(TimeEntry entry) {
+    TimeEntryResponse toResponse(TimeEntry entry, ProjectResponse project) {
         return TimeEntryResponse.builder()
                 .id(entry.getId())
                 .employeeId(entry.getEmployee().getId())
                 .employeeName(entry.getEmployee().getFirstName() + " " + entry.getEmployee().getLastName())
-                .projectId(entry.getProject().getId())
-                .projectName(entry.getProject().getName())
+                .projectId(project.getId())
+                .projectName(project.getName())
                 .date(entry.getDate())
-                .hours(entry.getHours())
+                .hours(QuarterHours.toHours(entry.getQuarterHours()))
                 .description(entry.getDescription())
                 .build();
     }
@@ -8,8 +8,12 @@ INSERT INTO projects (name, code, description, active) VALUES ('Timesheet App',
 INSERT INTO projects (name, code, description, active) VALUES ('Client Portal', 'CPT', 'Customer-facing portal project', true);
 INSERT INTO projects (name, code, description, active) VALUES ('Legacy Migration', 'LGM', 'Migrating legacy systems to cloud', false);
 
--- Seed time entries
-INSERT INTO time_entries (employee_id, project_id, date, hours, description) VALUES (1, 1, '2025-01-06', 8.00, 'Backend API development');
-INSERT INTO time_entries (employee_id, project_id, date, hours, description) VALUES (1, 2, '2025-01-07', 4.00, 'Portal design review');
-INSERT INTO time_entries (employee_id, project_id, date, hours, description) VALUES (2, 1, '2025-01-06', 6.50, 'UI wireframes');
-INSERT INTO time_entries (employee_id, project_id, date, hours, description) VALUES (3, 3, '2025-01-06', 7.75, 'Data migration scripts');
+-- Seed time entries; hours are stored as quarter-hours (32 = 8.00 hours)
+INSERT INTO time_entries (id, employee_id, project_id, date, quarter_hours, description) VALUES (1, 1, 1, '2025-01-06', 32, 'Backend API development');
+INSERT INTO time_entries (id, employee_id, project_id, date, quarter_hours, description) VALUES (2, 1, 2, '2025-01-07', 16, 'Portal design review');
+INSERT INTO time_entries (id, employee_id, project_id, date, quarter_hours, description) VALUES (3, 2, 1, '2025-01-06', 26, 'UI wireframes');
+INSERT INTO time_entries (id, employee_id, project_id, date, quarter_hours, description) VALUES (4, 3, 3, '2025-01-06', 31, 'Data migration scripts');
+
+-- Seed daily hours rollup from the time entries above
+INSERT INTO daily_hours (employee_id, project_id, date, total_quarter_hours)
+SELECT employee_id, project_id, date, SUM(quarter_hours) FROM time_entries GROUP BY employee_id, project_id, date;
@@ -0,0 +1,50 @@
+CREATE TABLE employees (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name  VARCHAR(255) NOT NULL,
+    last_name   VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    department  VARCHAR(255),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+CREATE TABLE projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    code        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    active      BOOLEAN NOT NULL,
+    CONSTRAINT uk_projects_code UNIQUE (code)
+);
+
+CREATE INDEX idx_projects_active ON projects (active);
+
+-- Matches TimeEntry's pooled sequence generator (allocationSize 50)
+CREATE SEQUENCE time_entries_seq START WITH 1000 INCREMENT BY 50;
+
+CREATE TABLE time_entries (
+    id            BIGINT NOT NULL PRIMARY KEY,
+    employee_id   BIGINT NOT NULL,
+    project_id    BIGINT NOT NULL,
+    date          DATE NOT NULL,
+    quarter_hours INTEGER NOT NULL,
+    description   VARCHAR(255),
+    CONSTRAINT fk_time_entries_employee FOREIGN KEY (employee_id) REFERENCES employees (id),
+    CONSTRAINT fk_time_entries_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+CREATE INDEX idx_time_entries_employee_date ON time_entries (employee_id, date);
+CREATE INDEX idx_time_entries_project_date ON time_entries (project_id, date);
+
+CREATE TABLE daily_hours (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employee_id         BIGINT NOT NULL,
+    project_id          BIGINT NOT NULL,
+    date                DATE NOT NULL,
+    total_quarter_hours INTEGER NOT NULL,
+    CONSTRAINT uk_daily_hours_employee_project_date UNIQUE (employee_id, project_id, date),
+    CONSTRAINT fk_daily_hours_employee FOREIGN KEY (employee_id) REFERENCES employees (id),
+    CONSTRAINT fk_daily_hours_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+CREATE INDEX idx_daily_hours_employee_date ON daily_hours (employee_id, date);
+CREATE INDEX idx_daily_hours_project_date ON daily_hours (project_id, date);
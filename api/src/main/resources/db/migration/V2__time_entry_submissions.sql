@@ -0,0 +1,6 @@
+CREATE TABLE time_entry_submissions (
+    id             VARCHAR(36) NOT NULL PRIMARY KEY,
+    time_entry_id  BIGINT,
+    error          VARCHAR(255),
+    processed_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,35 @@
+CREATE TABLE payroll_closes (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    start_date             DATE NOT NULL,
+    end_date               DATE NOT NULL,
+    status                 VARCHAR(16) NOT NULL,
+    employees              INTEGER,
+    total_quarter_hours    BIGINT,
+    overtime_quarter_hours BIGINT,
+    started_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    completed_at           TIMESTAMP(6) WITH TIME ZONE,
+    error                  VARCHAR(255),
+    CONSTRAINT uk_payroll_closes_period UNIQUE (start_date, end_date)
+);
+
+-- Matches PayrollSummary's pooled sequence generator (allocationSize 50)
+CREATE SEQUENCE payroll_summaries_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE payroll_summaries (
+    id                     BIGINT NOT NULL PRIMARY KEY,
+    close_id               BIGINT NOT NULL,
+    employee_id            BIGINT NOT NULL,
+    total_quarter_hours    INTEGER NOT NULL,
+    regular_quarter_hours  INTEGER NOT NULL,
+    overtime_quarter_hours INTEGER NOT NULL,
+    CONSTRAINT uk_payroll_summaries_close_employee UNIQUE (close_id, employee_id),
+    CONSTRAINT fk_payroll_summaries_close FOREIGN KEY (close_id) REFERENCES payroll_closes (id),
+    CONSTRAINT fk_payroll_summaries_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE payroll_summary_projects (
+    summary_id    BIGINT NOT NULL,
+    project_id    BIGINT NOT NULL,
+    quarter_hours INTEGER NOT NULL,
+    CONSTRAINT fk_payroll_summary_projects_summary FOREIGN KEY (summary_id) REFERENCES payroll_summaries (id)
+);
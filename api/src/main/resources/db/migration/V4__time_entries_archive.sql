@@ -0,0 +1,13 @@
+CREATE TABLE time_entries_archive (
+    id            BIGINT NOT NULL PRIMARY KEY,
+    employee_id   BIGINT NOT NULL,
+    project_id    BIGINT NOT NULL,
+    date          DATE NOT NULL,
+    quarter_hours INTEGER NOT NULL,
+    description   VARCHAR(255),
+    CONSTRAINT fk_time_entries_archive_employee FOREIGN KEY (employee_id) REFERENCES employees (id),
+    CONSTRAINT fk_time_entries_archive_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+CREATE INDEX idx_time_entries_archive_employee_date ON time_entries_archive (employee_id, date);
+CREATE INDEX idx_time_entries_archive_project_date ON time_entries_archive (project_id, date);
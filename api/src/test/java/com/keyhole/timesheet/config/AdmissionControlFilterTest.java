@@ -0,0 +1,133 @@
+package com.keyhole.timesheet.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "timesheet.admission.enabled=true",
+        "timesheet.admission.queue-timeout=100ms",
+        "timesheet.admission.bulk.max-limit=2",
+        "timesheet.admission.bulk.queue-size=0"
+})
+@AutoConfigureMockMvc
+@Transactional
+class AdmissionControlFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdmissionControlFilter filter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldShedBulkReadsWhileInteractiveRequestsProceed() throws Exception {
+        AdmissionLimiter bulk = filter.limiter(TrafficClass.BULK);
+        assertThat(bulk.tryAcquire(0, TimeUnit.NANOSECONDS)).isTrue();
+        try {
+            mockMvc.perform(get("/api/v1/time-entries"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "5"))
+                    .andExpect(jsonPath("$.error").value("Server is busy, please retry"));
+
+            mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+                    .andExpect(status().isOk());
+            TimeEntryRequest request = TimeEntryRequest.builder()
+                    .employeeId(1L)
+                    .projectId(1L)
+                    .date(LocalDate.of(2025, 1, 9))
+                    .hours(new BigDecimal("1.00"))
+                    .build();
+            mockMvc.perform(post("/api/v1/time-entries")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        } finally {
+            bulk.release(0, false);
+        }
+
+        mockMvc.perform(get("/api/v1/time-entries"))
+                .andExpect(status().isOk());
+        assertThat(meterRegistry.get("timesheet.admission.rejections").tag("class", "bulk").counter().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void shouldClassifyRequests() {
+        assertThat(TrafficClass.of(new MockHttpServletRequest("GET", "/api/v1/time-entries")))
+                .isEqualTo(TrafficClass.BULK);
+        assertThat(TrafficClass.of(new MockHttpServletRequest("GET", "/api/v1/projects/1/hours")))
+                .isEqualTo(TrafficClass.BULK);
+        assertThat(TrafficClass.of(new MockHttpServletRequest("POST", "/api/v1/time-entries/bulk")))
+                .isEqualTo(TrafficClass.BULK);
+        assertThat(TrafficClass.of(new MockHttpServletRequest("GET", "/api/v1/time-entries/7")))
+                .isEqualTo(TrafficClass.INTERACTIVE_READ);
+        assertThat(TrafficClass.of(new MockHttpServletRequest("PUT", "/api/v1/time-entries/7")))
+                .isEqualTo(TrafficClass.INTERACTIVE_WRITE);
+    }
+
+    @Test
+    void shouldIncreaseLimitAdditivelyAndBackOffMultiplicatively() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(8, 0, TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(0, TimeUnit.NANOSECONDS)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(0, TimeUnit.NANOSECONDS)).isFalse();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        // 5 * 0.9 * 0.9 = 4.05
+        limiter.release(TimeUnit.SECONDS.toNanos(1), false);
+        limiter.release(0, true);
+        assertThat(limiter.limit()).isEqualTo(4);
+        for (int i = 0; i < 50; i++) {
+            limiter.backOff();
+        }
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAdmitQueuedRequestWhenSlotIsReleased() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(2, 1, TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire(0, TimeUnit.NANOSECONDS)).isTrue();
+
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            limiter.release(0, false);
+        });
+        assertThat(limiter.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+        releaser.join();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+}
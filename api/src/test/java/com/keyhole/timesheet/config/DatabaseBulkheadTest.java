@@ -0,0 +1,72 @@
+package com.keyhole.timesheet.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "timesheet.bulkhead.max-concurrent=1",
+        "timesheet.bulkhead.acquire-timeout=100ms"
+})
+@ActiveProfiles("virtual-threads")
+@AutoConfigureMockMvc
+@Transactional
+class DatabaseBulkheadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DatabaseBulkhead bulkhead;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldReturn503WhenAllPermitsAreHeld() throws Exception {
+        bulkhead.permits().acquire();
+        try {
+            mockMvc.perform(get("/api/v1/time-entries/1"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.error").exists());
+        } finally {
+            bulkhead.permits().release();
+        }
+
+        mockMvc.perform(get("/api/v1/time-entries/1"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldReuseOuterPermitForNestedTransactions() throws Exception {
+        // create() calls the transactional project lookup while holding the only permit
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(2L)
+                .projectId(2L)
+                .date(LocalDate.of(2025, 1, 8))
+                .hours(new BigDecimal("2.00"))
+                .build();
+
+        mockMvc.perform(post("/api/v1/time-entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+}
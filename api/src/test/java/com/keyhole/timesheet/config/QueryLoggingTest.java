@@ -0,0 +1,69 @@
+package com.keyhole.timesheet.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A zero threshold logs every statement
+@SpringBootTest(properties = "timesheet.query-log.slow-threshold=0ms")
+@AutoConfigureMockMvc
+@Transactional
+class QueryLoggingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(SlowQueryListener.LOGGER_NAME)).addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        ((Logger) LoggerFactory.getLogger(SlowQueryListener.LOGGER_NAME)).detachAppender(appender);
+    }
+
+    @Test
+    void shouldCountQueriesPerRequest() throws Exception {
+        String count = mockMvc.perform(get("/api/v1/time-entries/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(QueryCountAdvice.HEADER);
+
+        assertThat(Integer.parseInt(count)).isPositive();
+    }
+
+    @Test
+    void shouldLogSlowQueryAsJsonWithCallerAndBindParameters() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/1"))
+                .andExpect(status().isOk());
+
+        assertThat(appender.list).isNotEmpty();
+        JsonNode entry = objectMapper.readTree(appender.list.get(0).getFormattedMessage());
+        assertThat(entry.get("durationMs").isNumber()).isTrue();
+        assertThat(entry.get("caller").asText()).startsWith("TimeEntryService.");
+        assertThat(entry.get("repository").asText()).isEqualTo("TimeEntryRepository.findResponseById");
+        assertThat(entry.at("/queries/0/sql").asText()).containsIgnoringCase("time_entries");
+        assertThat(entry.at("/queries/0/params/0/0").asLong()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,197 @@
+package com.keyhole.timesheet.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.ProjectResponse;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.service.ProjectMonthCache;
+import com.keyhole.timesheet.service.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two private databases: the primary gets the usual schema and seed data, the "replica" is
+// migrated and seeded separately so every response shows which one it was read from.
+// Not @Transactional: a test transaction would keep every read on the primary.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimary",
+        "timesheet.replica.datasource.jdbc-url=" + ReadReplicaRoutingTest.REPLICA_URL
+})
+@ActiveProfiles("replica")
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMonthCache projectMonthCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long createdId;
+
+    @BeforeAll
+    static void createReplica() throws Exception {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM time_entries");
+            statement.execute("MERGE INTO employees (id, first_name, last_name, email, department) "
+                    + "KEY (id) VALUES (1, 'John', 'Doe', 'john.doe@keyhole.com', 'Engineering')");
+            statement.execute("MERGE INTO projects (id, name, code, description, active) "
+                    + "KEY (id) VALUES (1, 'Timesheet App (replica)', 'TSA', NULL, TRUE)");
+            statement.execute("INSERT INTO time_entries (id, employee_id, project_id, date, quarter_hours, description) "
+                    + "VALUES (1, 1, 1, DATE '2025-01-06', 32, 'From the replica')");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        if (createdId != null) {
+            mockMvc.perform(delete("/api/v1/time-entries/" + createdId));
+        }
+    }
+
+    @Test
+    void shouldReadFromReplicaOutsideReadYourWritesWindow() throws Exception {
+        double before = replicaConnections();
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].description").value("From the replica"));
+
+        assertThat(replicaConnections()).isGreaterThan(before);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(1L)
+                .projectId(1L)
+                .date(LocalDate.of(2025, 1, 10))
+                .hours(new BigDecimal("2.00"))
+                .description("Written to the primary")
+                .build();
+        MockHttpServletResponse created = mockMvc.perform(post("/api/v1/time-entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+                .andReturn().getResponse();
+        createdId = objectMapper.readTree(created.getContentAsString()).get("id").asLong();
+        Cookie pin = created.getCookie(ReadYourWritesFilter.COOKIE);
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1").cookie(pin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].description", hasItem("Written to the primary")))
+                .andExpect(jsonPath("$[*].description", not(hasItem("From the replica"))));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].description", not(hasItem("Written to the primary"))));
+
+        Cookie expired = new Cookie(ReadYourWritesFilter.COOKIE, String.valueOf(System.currentTimeMillis() - 1));
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1").cookie(expired))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("From the replica"));
+        assertThat(meterRegistry.get("timesheet.datasource.connections").tag("route", "primary-pinned")
+                .counter().count()).isPositive();
+    }
+
+    @Test
+    void shouldLoadCachedProjectFromPrimary() throws Exception {
+        Cache projects = cacheManager.getCache(CacheConfig.PROJECTS);
+        projects.clear();
+
+        mockMvc.perform(get("/api/v1/projects/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Timesheet App"));
+
+        assertThat(projects.get(1L, ProjectResponse.class).getName()).isEqualTo("Timesheet App");
+    }
+
+    @Test
+    void shouldNotCacheProjectLoadedInReplicaTransaction() {
+        Cache projects = cacheManager.getCache(CacheConfig.PROJECTS);
+        projects.clear();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        ProjectResponse project = readOnly.execute(status -> projectService.findById(1L));
+
+        assertThat(project.getName()).isEqualTo("Timesheet App (replica)");
+        assertThat(projects.get(1L)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotCacheReplicaReportForMonthEvictedWithinWindow() throws Exception {
+        Cache projectMonths = cacheManager.getCache(CacheConfig.PROJECT_MONTHS);
+        projectMonths.clear();
+        // As a write to January would
+        projectMonthCache.evict(1L, YearMonth.of(2025, 1));
+
+        mockMvc.perform(get("/api/v1/projects/1/hours")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-02-28"))
+                .andExpect(status().isOk());
+
+        // February was not written recently, so the replica's copy is cached
+        Map<Object, Object> cached = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) projectMonths.getNativeCache()).asMap();
+        assertThat(cached).hasSize(1);
+        assertThat(cached.keySet()).singleElement().asString().contains("2025-02");
+    }
+
+    private double replicaConnections() {
+        return meterRegistry.get("timesheet.datasource.connections").tag("route", "replica").counter().count();
+    }
+}
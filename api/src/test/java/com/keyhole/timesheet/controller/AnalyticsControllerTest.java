@@ -0,0 +1,129 @@
+package com.keyhole.timesheet.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not transactional: the index only follows committed changes
+@SpringBootTest(properties = "timesheet.analytics.enabled=true")
+@AutoConfigureMockMvc
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        for (Long id : createdIds) {
+            mockMvc.perform(delete("/api/v1/time-entries/" + id));
+        }
+    }
+
+    @Test
+    void shouldGroupSeedHoursByDepartmentAndProject() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/hours")
+                        .param("groupBy", "department,project")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy", contains("DEPARTMENT", "PROJECT")))
+                .andExpect(jsonPath("$.rows", hasSize(4)))
+                .andExpect(jsonPath("$.rows[0].key", contains("Design", "TSA")))
+                .andExpect(jsonPath("$.rows[0].hours").value(6.5))
+                .andExpect(jsonPath("$.rows[1].key", contains("Engineering", "TSA")))
+                .andExpect(jsonPath("$.rows[1].hours").value(8.0))
+                .andExpect(jsonPath("$.rows[2].key", contains("Engineering", "CPT")))
+                .andExpect(jsonPath("$.rows[2].hours").value(4.0))
+                .andExpect(jsonPath("$.rows[3].key", contains("Engineering", "LGM")))
+                .andExpect(jsonPath("$.rows[3].hours").value(7.75))
+                .andExpect(jsonPath("$.totalHours").value(26.25))
+                .andExpect(jsonPath("$.entries").value(4));
+    }
+
+    @Test
+    void shouldFilterByDepartmentAndGroupByMonth() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/hours")
+                        .param("groupBy", "month")
+                        .param("department", "Engineering")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows", hasSize(1)))
+                .andExpect(jsonPath("$.rows[0].key", contains("2025-01")))
+                .andExpect(jsonPath("$.rows[0].hours").value(19.75))
+                .andExpect(jsonPath("$.rows[0].entries").value(3));
+    }
+
+    @Test
+    void shouldFollowCreateUpdateAndDelete() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(2L)
+                .projectId(2L)
+                .date(LocalDate.of(2025, 2, 3))
+                .hours(new BigDecimal("4.00"))
+                .description("Analytics test")
+                .build();
+        String created = mockMvc.perform(post("/api/v1/time-entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+        createdIds.add(id);
+
+        mockMvc.perform(get("/api/v1/analytics/hours").param("groupBy", "employee,day")
+                        .param("startDate", "2025-02-01"))
+                .andExpect(jsonPath("$.rows", hasSize(1)))
+                .andExpect(jsonPath("$.rows[0].key", contains("2", "2025-02-03")))
+                .andExpect(jsonPath("$.rows[0].hours").value(4.0));
+
+        request.setHours(new BigDecimal("6.00"));
+        mockMvc.perform(put("/api/v1/time-entries/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/analytics/hours").param("startDate", "2025-02-01"))
+                .andExpect(jsonPath("$.rows[0].key", hasSize(0)))
+                .andExpect(jsonPath("$.totalHours").value(6.0));
+
+        mockMvc.perform(delete("/api/v1/time-entries/" + id))
+                .andExpect(status().isNoContent());
+        createdIds.remove(id);
+        mockMvc.perform(get("/api/v1/analytics/hours").param("startDate", "2025-02-01"))
+                .andExpect(jsonPath("$.rows", hasSize(0)))
+                .andExpect(jsonPath("$.entries").value(0));
+    }
+
+    @Test
+    void shouldReturn400ForUnknownOrRepeatedDimension() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/hours").param("groupBy", "weekday"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/analytics/hours").param("groupBy", "project,project"))
+                .andExpect(status().isBadRequest());
+    }
+}
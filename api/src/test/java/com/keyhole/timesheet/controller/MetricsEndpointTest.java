@@ -0,0 +1,46 @@
+package com.keyhole.timesheet.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeServiceRepositoryAndValidationMetricsForPrometheus() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/time-entries")
+                        .contentType("application/json")
+                        .content("{\"employeeId\":1,\"projectId\":1,\"date\":\"2025-01-10\",\"hours\":1.1}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "timesheet_service_seconds_count{class=\"com.keyhole.timesheet.service.TimeEntryService\"")))
+                .andExpect(content().string(containsString("timesheet_service_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString(
+                        "timesheet_validation_rejections_total{rule=\"quarter_increments\"}")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+}
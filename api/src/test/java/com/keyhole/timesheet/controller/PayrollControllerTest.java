@@ -0,0 +1,226 @@
+package com.keyhole.timesheet.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.entity.PayrollClose;
+import com.keyhole.timesheet.entity.PayrollSummary;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import com.keyhole.timesheet.repository.PayrollCloseRepository;
+import com.keyhole.timesheet.repository.PayrollSummaryRepository;
+import com.keyhole.timesheet.service.PayrollCloseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not transactional: the close runs in the background and commits chunk by chunk
+@SpringBootTest
+@AutoConfigureMockMvc
+class PayrollControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PayrollCloseService payrollCloseService;
+
+    @Autowired
+    private PayrollCloseRepository payrollCloseRepository;
+
+    @Autowired
+    private PayrollSummaryRepository payrollSummaryRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final List<Long> createdEntryIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        payrollSummaryRepository.deleteAll();
+        payrollCloseRepository.deleteAll();
+        for (Long id : createdEntryIds) {
+            mockMvc.perform(delete("/api/v1/time-entries/" + id));
+        }
+    }
+
+    @Test
+    void shouldClosePayPeriodWithProjectSplits() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/payroll/closes")
+                        .param("startDate", "2025-01-06")
+                        .param("endDate", "2025-01-12"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+
+        JsonNode close = awaitCompleted(id);
+        assertThat(close.get("processedEmployees").asLong()).isEqualTo(3);
+        assertThat(close.get("totalHours").decimalValue()).isEqualByComparingTo("26.25");
+        assertThat(close.get("overtimeHours").decimalValue()).isEqualByComparingTo("0");
+
+        mockMvc.perform(get("/api/v1/payroll/closes/" + id + "/summaries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].employeeName").value("John Doe"))
+                .andExpect(jsonPath("$[0].totalHours").value(12.0))
+                .andExpect(jsonPath("$[0].projects", hasSize(2)))
+                .andExpect(jsonPath("$[0].projects[0].projectName").value("Timesheet App"))
+                .andExpect(jsonPath("$[0].projects[0].hours").value(8.0))
+                .andExpect(jsonPath("$[0].projects[1].projectName").value("Client Portal"))
+                .andExpect(jsonPath("$[0].projects[1].hours").value(4.0));
+
+        mockMvc.perform(post("/api/v1/payroll/closes")
+                        .param("startDate", "2025-01-06")
+                        .param("endDate", "2025-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    void shouldCountOvertimePerWeek() throws Exception {
+        // 45 hours in the week of 2025-03-03, 5 of them over the weekly threshold
+        for (int day = 0; day < 5; day++) {
+            createEntry(LocalDate.of(2025, 3, 3).plusDays(day), "9.00");
+        }
+        createEntry(LocalDate.of(2025, 3, 10), "8.00");
+
+        String body = mockMvc.perform(post("/api/v1/payroll/closes")
+                        .param("startDate", "2025-03-01")
+                        .param("endDate", "2025-03-14"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+        awaitCompleted(id);
+
+        mockMvc.perform(get("/api/v1/payroll/closes/" + id + "/summaries"))
+                .andExpect(jsonPath("$[2].employeeId").value(3))
+                .andExpect(jsonPath("$[2].totalHours").value(53.0))
+                .andExpect(jsonPath("$[2].regularHours").value(48.0))
+                .andExpect(jsonPath("$[2].overtimeHours").value(5.0))
+                .andExpect(jsonPath("$[0].totalHours").value(0.0));
+    }
+
+    @Test
+    void shouldResumeFromCommittedSummaries() {
+        PayrollClose close = payrollCloseRepository.save(PayrollClose.builder()
+                .startDate(LocalDate.of(2025, 1, 6))
+                .endDate(LocalDate.of(2025, 1, 12))
+                .status(PayrollCloseService.RUNNING)
+                .startedAt(Instant.now())
+                .build());
+        // Checkpointed before a "restart"; a recomputed summary would show 12 hours
+        payrollSummaryRepository.save(PayrollSummary.builder()
+                .close(close)
+                .employee(employeeRepository.findById(1L).orElseThrow())
+                .totalQuarterHours(1)
+                .regularQuarterHours(1)
+                .build());
+
+        payrollCloseService.run(close.getId());
+
+        assertThat(payrollCloseService.findById(close.getId()).getStatus()).isEqualTo(PayrollCloseService.COMPLETED);
+        assertThat(payrollCloseService.findSummaries(close.getId()))
+                .extracting(summary -> summary.getTotalHours().toPlainString())
+                .containsExactly("0.25", "6.50", "7.75");
+    }
+
+    @Test
+    void shouldReturnSameCloseToConcurrentRequestsForOnePeriod() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int week = 0; week < 5; week++) {
+                LocalDate startDate = LocalDate.of(2024, 6, 3).plusWeeks(week);
+                CountDownLatch start = new CountDownLatch(1);
+                Callable<JsonNode> closePeriod = () -> {
+                    start.await();
+                    MockHttpServletResponse response = mockMvc.perform(post("/api/v1/payroll/closes")
+                                    .param("startDate", startDate.toString())
+                                    .param("endDate", startDate.plusDays(6).toString()))
+                            .andReturn().getResponse();
+                    assertThat(response.getStatus()).isIn(200, 202);
+                    return objectMapper.readTree(response.getContentAsString());
+                };
+                Future<JsonNode> first = executor.submit(closePeriod);
+                Future<JsonNode> second = executor.submit(closePeriod);
+                start.countDown();
+
+                long id = first.get().get("id").asLong();
+                assertThat(second.get().get("id").asLong()).isEqualTo(id);
+                awaitCompleted(id);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(payrollCloseRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReturn400ForPeriodLongerThanMaximum() throws Exception {
+        mockMvc.perform(post("/api/v1/payroll/closes")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-03-31"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturn404ForUnknownClose() throws Exception {
+        mockMvc.perform(get("/api/v1/payroll/closes/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void createEntry(LocalDate date, String hours) throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(3L)
+                .projectId(1L)
+                .date(date)
+                .hours(new BigDecimal(hours))
+                .description("Payroll test")
+                .build();
+        String body = mockMvc.perform(post("/api/v1/time-entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        createdEntryIds.add(objectMapper.readTree(body).get("id").asLong());
+    }
+
+    private JsonNode awaitCompleted(long id) {
+        return await().atMost(Duration.ofSeconds(10)).until(() -> objectMapper.readTree(
+                        mockMvc.perform(get("/api/v1/payroll/closes/" + id))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString()),
+                close -> "COMPLETED".equals(close.get("status").asText()));
+    }
+}
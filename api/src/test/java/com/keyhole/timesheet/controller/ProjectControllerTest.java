@@ -2,6 +2,7 @@ package com.keyhole.timesheet.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.keyhole.timesheet.dto.ProjectRequest;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -10,6 +11,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -102,4 +106,91 @@ class ProjectControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Timesheet App Updated"));
     }
+
+    @Test
+    void shouldReportWeeklyHoursWithRunningTotals() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/1/hours")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectName").value("Timesheet App"))
+                .andExpect(jsonPath("$.granularity").value("WEEK"))
+                .andExpect(jsonPath("$.periods", hasSize(5)))
+                .andExpect(jsonPath("$.periods[0].periodStart").value("2025-01-01"))
+                .andExpect(jsonPath("$.periods[0].periodEnd").value("2025-01-05"))
+                .andExpect(jsonPath("$.periods[0].hours").value(0.00))
+                .andExpect(jsonPath("$.periods[1].periodStart").value("2025-01-06"))
+                .andExpect(jsonPath("$.periods[1].hours").value(14.50))
+                .andExpect(jsonPath("$.periods[4].periodEnd").value("2025-01-31"))
+                .andExpect(jsonPath("$.periods[4].cumulativeHours").value(14.50))
+                .andExpect(jsonPath("$.totalHours").value(14.50));
+    }
+
+    @Test
+    void shouldReflectNewEntriesInCachedClosedMonth() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/1/hours")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2025-02-28")
+                        .param("granularity", "month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.periods", hasSize(3)))
+                .andExpect(jsonPath("$.periods[1].hours").value(14.50));
+
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(3L)
+                .projectId(1L)
+                .date(LocalDate.of(2025, 1, 20))
+                .hours(new BigDecimal("2.00"))
+                .description("Code review")
+                .build();
+        mockMvc.perform(post("/api/v1/time-entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/projects/1/hours")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2025-02-28")
+                        .param("granularity", "month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.periods[1].hours").value(16.50))
+                .andExpect(jsonPath("$.periods[2].cumulativeHours").value(16.50));
+    }
+
+    @Test
+    void shouldReportContributorsLargestFirst() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/1/contributors")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contributors", hasSize(2)))
+                .andExpect(jsonPath("$.contributors[0].employeeId").value(1))
+                .andExpect(jsonPath("$.contributors[0].hours").value(8.00))
+                .andExpect(jsonPath("$.contributors[1].employeeId").value(2))
+                .andExpect(jsonPath("$.contributors[1].hours").value(6.50))
+                .andExpect(jsonPath("$.totalHours").value(14.50));
+
+        mockMvc.perform(get("/api/v1/projects/1/contributors")
+                        .param("startDate", "2025-01-07")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contributors", hasSize(0)));
+    }
+
+    @Test
+    void shouldRejectInvalidReportRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/1/hours")
+                        .param("startDate", "2025-02-01")
+                        .param("endDate", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects/1/hours")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .param("granularity", "fortnight"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects/999/contributors")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,153 @@
+package com.keyhole.timesheet.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.config.CacheConfig;
+import com.keyhole.timesheet.dto.EmployeeRequest;
+import com.keyhole.timesheet.dto.ProjectRequest;
+import com.keyhole.timesheet.entity.Employee;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import com.keyhole.timesheet.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not transactional: versions only move when the writing transaction commits
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReferenceDataETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void cleanUp() {
+        employeeRepository.findAll().stream()
+                .filter(employee -> employee.getEmail().startsWith("etag."))
+                .forEach(employeeRepository::delete);
+        projectRepository.findAll().stream()
+                .filter(project -> project.getCode().startsWith("ETAG"))
+                .forEach(projectRepository::delete);
+        cacheManager.getCache(CacheConfig.EMPLOYEES).clear();
+        cacheManager.getCache(CacheConfig.PROJECTS).clear();
+    }
+
+    @Test
+    void shouldReturnETagAndCacheControlForEmployees() throws Exception {
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    void shouldReturn304WhenEmployeesUnchanged() throws Exception {
+        String etag = etag("/api/v1/employees");
+
+        mockMvc.perform(get("/api/v1/employees").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldChangeEmployeesETagAfterCreateAndUpdate() throws Exception {
+        String before = etag("/api/v1/employees");
+        EmployeeRequest request = EmployeeRequest.builder()
+                .firstName("Etag")
+                .lastName("Tester")
+                .email("etag.tester@keyhole.com")
+                .department("QA")
+                .build();
+        String created = mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/employees").header("If-None-Match", before))
+                .andExpect(status().isOk());
+        String afterCreate = etag("/api/v1/employees");
+        assertThat(afterCreate).isNotEqualTo(before);
+
+        long id = objectMapper.readTree(created).get("id").asLong();
+        request.setDepartment("Engineering");
+        mockMvc.perform(put("/api/v1/employees/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        assertThat(etag("/api/v1/employees")).isNotEqualTo(afterCreate);
+    }
+
+    @Test
+    void shouldChangeEmployeesETagWhenAnotherInstanceWrites() throws Exception {
+        String before = etag("/api/v1/employees");
+        // Saved through the repository, not the service, as another instance sharing the database would
+        Employee employee = employeeRepository.findById(2L).orElseThrow();
+        String department = employee.getDepartment();
+        employee.setDepartment("Elsewhere");
+        employeeRepository.save(employee);
+        try {
+            mockMvc.perform(get("/api/v1/employees").header("If-None-Match", before))
+                    .andExpect(status().isOk());
+        } finally {
+            Employee changed = employeeRepository.findById(2L).orElseThrow();
+            changed.setDepartment(department);
+            employeeRepository.save(changed);
+        }
+    }
+
+    @Test
+    void shouldVaryProjectsETagByFilterAndChangeAfterCreate() throws Exception {
+        String all = etag("/api/v1/projects");
+        String active = etag("/api/v1/projects?active=true");
+        assertThat(active).isNotEqualTo(all);
+
+        mockMvc.perform(get("/api/v1/projects?active=true").header("If-None-Match", active))
+                .andExpect(status().isNotModified());
+
+        ProjectRequest request = ProjectRequest.builder()
+                .name("ETag Project")
+                .code("ETAG1")
+                .description("Conditional GET")
+                .active(true)
+                .build();
+        mockMvc.perform(post("/api/v1/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/projects?active=true").header("If-None-Match", active))
+                .andExpect(status().isOk());
+    }
+
+    private String etag(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+    }
+}
@@ -0,0 +1,157 @@
+package com.keyhole.timesheet.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class SummaryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldGetWeeklySummaryFromRollup() throws Exception {
+        mockMvc.perform(get("/api/v1/summaries/weekly")
+                        .param("employeeId", "1")
+                        .param("week", "2025-01-08"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weekStart").value("2025-01-06"))
+                .andExpect(jsonPath("$.weekEnd").value("2025-01-12"))
+                .andExpect(jsonPath("$.days", hasSize(7)))
+                .andExpect(jsonPath("$.days[0].projects[0].projectName").value("Timesheet App"))
+                .andExpect(jsonPath("$.days[0].totalHours").value(8.0))
+                .andExpect(jsonPath("$.days[1].totalHours").value(4.0))
+                .andExpect(jsonPath("$.days[2].projects", hasSize(0)))
+                .andExpect(jsonPath("$.totalHours").value(12.0));
+    }
+
+    @Test
+    void shouldReturn404ForUnknownEmployee() throws Exception {
+        mockMvc.perform(get("/api/v1/summaries/weekly")
+                        .param("employeeId", "999")
+                        .param("week", "2025-01-06"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldKeepRollupInStepWithMutations() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(1L)
+                .projectId(1L)
+                .date(LocalDate.of(2025, 1, 6))
+                .hours(new BigDecimal("2.00"))
+                .description("Extra")
+                .build();
+        String body = mockMvc.perform(post("/api/v1/time-entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+        expectDayTotal(10.0);
+
+        request.setProjectId(2L);
+        request.setHours(new BigDecimal("3.00"));
+        mockMvc.perform(put("/api/v1/time-entries/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        expectDayTotal(11.0);
+
+        mockMvc.perform(delete("/api/v1/time-entries/" + id))
+                .andExpect(status().isNoContent());
+        expectDayTotal(8.0);
+        mockMvc.perform(get("/api/v1/summaries/weekly")
+                        .param("employeeId", "1")
+                        .param("week", "2025-01-06"))
+                .andExpect(jsonPath("$.days[0].projects", hasSize(1)));
+    }
+
+    private void expectDayTotal(double hours) throws Exception {
+        mockMvc.perform(get("/api/v1/summaries/weekly")
+                        .param("employeeId", "1")
+                        .param("week", "2025-01-06"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days[0].totalHours").value(hours));
+    }
+
+    @Test
+    void shouldPivotDepartmentWeek() throws Exception {
+        mockMvc.perform(get("/api/v1/summaries/weekly/pivot")
+                        .param("department", "Engineering")
+                        .param("week", "2025-01-09"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weekStart").value("2025-01-06"))
+                .andExpect(jsonPath("$.employees", hasSize(2)))
+                .andExpect(jsonPath("$.employees[0].employeeName").value("John Doe"))
+                .andExpect(jsonPath("$.employees[0].projects[0].projectName").value("Client Portal"))
+                .andExpect(jsonPath("$.employees[0].projects[1].projectName").value("Timesheet App"))
+                .andExpect(jsonPath("$.employees[0].rows", hasSize(7)))
+                .andExpect(jsonPath("$.employees[0].rows[0].hours[0]").value(0.0))
+                .andExpect(jsonPath("$.employees[0].rows[0].hours[1]").value(8.0))
+                .andExpect(jsonPath("$.employees[0].rows[1].hours[0]").value(4.0))
+                .andExpect(jsonPath("$.employees[0].totalHours").value(12.0))
+                .andExpect(jsonPath("$.employees[1].employeeName").value("Bob Johnson"))
+                .andExpect(jsonPath("$.employees[1].rows[0].totalHours").value(7.75))
+                .andExpect(jsonPath("$.dailyTotals[0]").value(15.75))
+                .andExpect(jsonPath("$.dailyTotals[1]").value(4.0))
+                .andExpect(jsonPath("$.totalHours").value(19.75));
+    }
+
+    @Test
+    void shouldPivotSelectedEmployeesIncludingEmptyWeeks() throws Exception {
+        mockMvc.perform(get("/api/v1/summaries/weekly/pivot")
+                        .param("employeeIds", "2", "1")
+                        .param("week", "2025-01-13"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(2)))
+                .andExpect(jsonPath("$.employees[0].employeeId").value(1))
+                .andExpect(jsonPath("$.employees[0].projects", hasSize(0)))
+                .andExpect(jsonPath("$.employees[0].rows[0].hours", hasSize(0)))
+                .andExpect(jsonPath("$.totalHours").value(0.0));
+    }
+
+    @Test
+    void shouldRejectPivotWithoutExactlyOneSelector() throws Exception {
+        mockMvc.perform(get("/api/v1/summaries/weekly/pivot")
+                        .param("week", "2025-01-06"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/summaries/weekly/pivot")
+                        .param("employeeIds", "1")
+                        .param("department", "Engineering")
+                        .param("week", "2025-01-06"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturn404ForUnknownEmployeeInPivot() throws Exception {
+        mockMvc.perform(get("/api/v1/summaries/weekly/pivot")
+                        .param("employeeIds", "1", "999")
+                        .param("week", "2025-01-06"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Employee not found with id: 999"));
+    }
+}
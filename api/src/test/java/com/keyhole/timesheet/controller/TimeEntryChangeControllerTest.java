@@ -0,0 +1,119 @@
+package com.keyhole.timesheet.controller;
+
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.service.TimeEntryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// Not transactional: changes are only published once their transaction commits
+@SpringBootTest(properties = "timesheet.change-feed.heartbeat=200ms")
+@AutoConfigureMockMvc
+class TimeEntryChangeControllerTest {
+
+    private static final Pattern CHANGE_ID = Pattern.compile("id:(\\S+)\nevent:change\n");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TimeEntryService timeEntryService;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        created.forEach(timeEntryService::delete);
+    }
+
+    @Test
+    void shouldStreamCommittedChanges() throws Exception {
+        MvcResult stream = subscribe(get("/api/v1/time-entries/changes"));
+
+        TimeEntryResponse entry = create(3L, LocalDate.of(2024, 4, 1));
+        timeEntryService.update(entry.getId(), entryRequest(3L, LocalDate.of(2024, 4, 1), "2.00"));
+
+        String content = awaitContent(stream, "\"type\":\"UPDATED\"");
+        assertThat(content).contains("event:change", "\"type\":\"CREATED\"", "\"entryId\":" + entry.getId());
+        assertThat(content.indexOf("\"type\":\"CREATED\"")).isLessThan(content.indexOf("\"type\":\"UPDATED\""));
+    }
+
+    @Test
+    void shouldResumeAfterLastEventId() throws Exception {
+        MvcResult first = subscribe(get("/api/v1/time-entries/changes"));
+        TimeEntryResponse before = create(3L, LocalDate.of(2024, 4, 2));
+        Matcher matcher = CHANGE_ID.matcher(awaitContent(first, "\"entryId\":" + before.getId()));
+        assertThat(matcher.find()).isTrue();
+        String lastEventId = matcher.group(1);
+
+        TimeEntryResponse missed = create(3L, LocalDate.of(2024, 4, 3));
+        MvcResult resumed = subscribe(get("/api/v1/time-entries/changes").header("Last-Event-ID", lastEventId));
+
+        String content = awaitContent(resumed, "\"entryId\":" + missed.getId());
+        assertThat(content).doesNotContain("\"entryId\":" + before.getId() + ",");
+    }
+
+    @Test
+    void shouldFilterByEmployee() throws Exception {
+        MvcResult stream = subscribe(get("/api/v1/time-entries/changes").param("employeeId", "2"));
+
+        TimeEntryResponse other = create(3L, LocalDate.of(2024, 4, 4));
+        TimeEntryResponse own = create(2L, LocalDate.of(2024, 4, 4));
+
+        String content = awaitContent(stream, "\"entryId\":" + own.getId());
+        assertThat(content).doesNotContain("\"entryId\":" + other.getId() + ",");
+    }
+
+    @Test
+    void shouldSendResetForUnknownLastEventId() throws Exception {
+        MvcResult stream = subscribe(get("/api/v1/time-entries/changes").header("Last-Event-ID", "1-42"));
+
+        assertThat(awaitContent(stream, "event:reset")).contains("\"eventId\"");
+    }
+
+    private MvcResult subscribe(RequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private TimeEntryResponse create(Long employeeId, LocalDate date) {
+        TimeEntryResponse entry = timeEntryService.create(entryRequest(employeeId, date, "1.00"));
+        created.add(entry.getId());
+        return entry;
+    }
+
+    private static TimeEntryRequest entryRequest(Long employeeId, LocalDate date, String hours) {
+        return TimeEntryRequest.builder()
+                .employeeId(employeeId)
+                .projectId(1L)
+                .date(date)
+                .hours(new BigDecimal(hours))
+                .description("Change feed")
+                .build();
+    }
+
+    private static String awaitContent(MvcResult stream, String expected) {
+        return await().atMost(Duration.ofSeconds(5)).until(
+                () -> stream.getResponse().getContentAsString(), content -> content.contains(expected));
+    }
+}
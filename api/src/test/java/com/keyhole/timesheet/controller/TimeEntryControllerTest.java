@@ -1,25 +1,42 @@
 package com.keyhole.timesheet.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.NormalizedTimeEntriesResponse;
 import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.repository.EmployeeRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -33,6 +50,12 @@ class TimeEntryControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Test
     void shouldGetAllTimeEntries() throws Exception {
         mockMvc.perform(get("/api/v1/time-entries"))
@@ -57,6 +80,110 @@ class TimeEntryControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)));
     }
 
+    @Test
+    void shouldCombineProjectAndDateRangeFilters() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries")
+                        .param("projectId", "1")
+                        .param("startDate", "2025-01-07")
+                        .param("endDate", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mockMvc.perform(get("/api/v1/time-entries")
+                        .param("employeeId", "1")
+                        .param("projectId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].projectName").value("Client Portal"));
+    }
+
+    @Test
+    void shouldReturnNormalizedTimeEntriesForVendorMediaType() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1")
+                        .accept(NormalizedTimeEntriesResponse.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NormalizedTimeEntriesResponse.MEDIA_TYPE))
+                .andExpect(jsonPath("$.entries", hasSize(2)))
+                .andExpect(jsonPath("$.entries[0].employeeId").value(1))
+                .andExpect(jsonPath("$.entries[0].employeeName").doesNotExist())
+                .andExpect(jsonPath("$.employees.length()").value(1))
+                .andExpect(jsonPath("$.employees['1']").value("John Doe"))
+                .andExpect(jsonPath("$.projects['1']").value("Timesheet App"))
+                .andExpect(jsonPath("$.projects['2']").value("Client Portal"));
+    }
+
+    @Test
+    void shouldKeepPlainListForJsonAccept() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].employeeName").value("John Doe"));
+    }
+
+    @Test
+    void shouldPageThroughTimeEntriesWithCursor() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/time-entries/page").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].date").value("2025-01-06"))
+                .andExpect(jsonPath("$.items[0].employeeName").value("John Doe"))
+                .andExpect(jsonPath("$.next").exists())
+                .andReturn().getResponse().getContentAsString();
+        String next = objectMapper.readTree(body).get("next").asText();
+
+        mockMvc.perform(get("/api/v1/time-entries/page").param("size", "3").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].date").value("2025-01-07"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void shouldReturn400ForInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/page").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportTimeEntriesAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/time-entries/export").param("employeeId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("employeeName").asText()).isEqualTo("John Doe");
+        assertThat(objectMapper.readTree(lines[1]).get("date").asText()).isEqualTo("2025-01-07");
+    }
+
+    @Test
+    void shouldExportTimeEntriesAsCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/time-entries/export")
+                        .param("projectId", "1")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"time-entries.csv\""))
+                .andExpect(content().string(
+                        "id,employeeId,employeeName,projectId,projectName,date,hours,description\n"
+                                + "1,1,John Doe,1,Timesheet App,2025-01-06,8.00,Backend API development\n"
+                                + "3,2,Jane Smith,1,Timesheet App,2025-01-06,6.50,UI wireframes\n"));
+    }
+
+    @Test
+    void shouldReturn400ForUnsupportedExportFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldGetTimeEntryById() throws Exception {
         mockMvc.perform(get("/api/v1/time-entries/1"))
@@ -89,6 +216,107 @@ class TimeEntryControllerTest {
                 .andExpect(jsonPath("$.hours").value(4.0));
     }
 
+    @Test
+    void shouldCreateTimeEntriesInBulkWithPartialFailures() throws Exception {
+        List<TimeEntryRequest> requests = List.of(
+                bulkRequest(2L, 2L, LocalDate.of(2025, 1, 8), "8.00"),
+                bulkRequest(2L, 2L, LocalDate.of(2025, 1, 8), "1.10"),
+                bulkRequest(999L, 1L, LocalDate.of(2025, 1, 8), "2.00"),
+                bulkRequest(2L, 2L, LocalDate.of(2025, 1, 8), "16.25"),
+                bulkRequest(2L, 2L, LocalDate.of(2025, 1, 8), "0.25"),
+                TimeEntryRequest.builder().build());
+
+        mockMvc.perform(post("/api/v1/time-entries/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(2))
+                .andExpect(jsonPath("$.failedCount").value(4))
+                .andExpect(jsonPath("$.results", hasSize(6)))
+                .andExpect(jsonPath("$.results[0].created").value(true))
+                .andExpect(jsonPath("$.results[0].entry.id").exists())
+                .andExpect(jsonPath("$.results[1].error").value("Hours must be in 0.25 increments"))
+                .andExpect(jsonPath("$.results[2].error").value("Employee not found with id: 999"))
+                .andExpect(jsonPath("$.results[3].error").value("Total hours per employee per day cannot exceed 24"))
+                .andExpect(jsonPath("$.results[4].created").value(true))
+                .andExpect(jsonPath("$.results[5].created").value(false));
+
+        mockMvc.perform(get("/api/v1/time-entries")
+                        .param("employeeId", "2")
+                        .param("startDate", "2025-01-08")
+                        .param("endDate", "2025-01-08"))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    // Not in the test transaction: the bulk transaction has to commit for a rollback-only mark to surface
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldReportUnknownProjectPerItemInBulk() throws Exception {
+        List<TimeEntryRequest> requests = List.of(
+                bulkRequest(2L, 2L, LocalDate.of(2025, 1, 9), "1.00"),
+                bulkRequest(2L, 999L, LocalDate.of(2025, 1, 9), "1.00"));
+
+        String body = mockMvc.perform(post("/api/v1/time-entries/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.results[0].created").value(true))
+                .andExpect(jsonPath("$.results[0].entry.projectName").value("Client Portal"))
+                .andExpect(jsonPath("$.results[1].error").value("Project not found with id: 999"))
+                .andReturn().getResponse().getContentAsString();
+
+        long id = objectMapper.readTree(body).at("/results/0/entry/id").asLong();
+        mockMvc.perform(delete("/api/v1/time-entries/" + id))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldReturn409WhenEmployeeLockTimesOut() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                employeeRepository.findByIdForUpdate(1L).orElseThrow();
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            mockMvc.perform(post("/api/v1/time-entries")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    bulkRequest(1L, 1L, LocalDate.of(2025, 1, 8), "1.00"))))
+                    .andExpect(status().isConflict())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.error").value("The record is locked by another request, please retry"));
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectBulkRequestAboveMaximumSize() throws Exception {
+        List<TimeEntryRequest> requests = Collections.nCopies(1001,
+                bulkRequest(1L, 1L, LocalDate.of(2025, 1, 8), "0.25"));
+
+        mockMvc.perform(post("/api/v1/time-entries/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturn400ForInvalidTimeEntry() throws Exception {
         TimeEntryRequest request = TimeEntryRequest.builder().build();
@@ -125,4 +353,14 @@ class TimeEntryControllerTest {
         mockMvc.perform(get("/api/v1/time-entries/1"))
                 .andExpect(status().isNotFound());
     }
+
+    private TimeEntryRequest bulkRequest(Long employeeId, Long projectId, LocalDate date, String hours) {
+        return TimeEntryRequest.builder()
+                .employeeId(employeeId)
+                .projectId(projectId)
+                .date(date)
+                .hours(new BigDecimal(hours))
+                .description("Bulk")
+                .build();
+    }
 }
@@ -0,0 +1,222 @@
+package com.keyhole.timesheet.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.repository.TimeEntrySubmissionRepository;
+import com.keyhole.timesheet.service.TimeEntryIngestService;
+import com.keyhole.timesheet.service.TimeEntryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not transactional: the writer thread commits batches on its own
+@SpringBootTest(properties = {
+        "timesheet.async-ingest.enabled=true",
+        "timesheet.async-ingest.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+class TimeEntrySubmissionControllerTest {
+
+    private static final Path JOURNAL = tempJournal();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TimeEntryIngestService timeEntryIngestService;
+
+    @Autowired
+    private TimeEntryService timeEntryService;
+
+    @Autowired
+    private TimeEntrySubmissionRepository submissionRepository;
+
+    @DynamicPropertySource
+    static void journal(DynamicPropertyRegistry registry) {
+        registry.add("timesheet.async-ingest.journal", JOURNAL::toString);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        submissionRepository.findAll().forEach(submission -> {
+            if (submission.getTimeEntryId() != null) {
+                timeEntryService.delete(submission.getTimeEntryId());
+            }
+        });
+        submissionRepository.deleteAll();
+    }
+
+    @Test
+    void shouldAcceptAndCreateEntryInBackground() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/time-entries/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(LocalDate.of(2024, 3, 4), "2.50"))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString("/api/v1/time-entries/submissions/")))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(body).get("id").asText();
+
+        JsonNode status = awaitProcessed(id);
+        assertThat(status.get("status").asText()).isEqualTo("CREATED");
+        mockMvc.perform(get("/api/v1/time-entries/" + status.get("timeEntryId").asLong()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hours").value(2.50));
+    }
+
+    @Test
+    void shouldReportDatabaseRuleFailuresAsRejected() throws Exception {
+        TimeEntryRequest request = request(LocalDate.of(2024, 3, 5), "2.00");
+        request.setProjectId(999L);
+        String body = mockMvc.perform(post("/api/v1/time-entries/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode status = awaitProcessed(objectMapper.readTree(body).get("id").asText());
+        assertThat(status.get("status").asText()).isEqualTo("REJECTED");
+        assertThat(status.get("error").asText()).isEqualTo("Project not found with id: 999");
+    }
+
+    @Test
+    void shouldRejectStatelessRuleViolationsImmediately() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(LocalDate.of(2024, 3, 6), "0.30"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Hours must be in 0.25 increments"));
+        mockMvc.perform(get("/api/v1/time-entries/submissions/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturn429WhenQueueIsFull() throws Exception {
+        timeEntryIngestService.stop();
+        try {
+            String body = mockMvc.perform(post("/api/v1/time-entries/async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request(LocalDate.of(2024, 3, 7), "1.00"))))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getContentAsString();
+            mockMvc.perform(post("/api/v1/time-entries/async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request(LocalDate.of(2024, 3, 8), "1.00"))))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "1"));
+
+            timeEntryIngestService.start();
+            assertThat(awaitProcessed(objectMapper.readTree(body).get("id").asText()).get("status").asText())
+                    .isEqualTo("CREATED");
+        } finally {
+            if (!timeEntryIngestService.isRunning()) {
+                timeEntryIngestService.start();
+            }
+        }
+    }
+
+    @Test
+    void shouldReplayJournaledSubmissionsOnStart() throws Exception {
+        timeEntryIngestService.stop();
+        String id = UUID.randomUUID().toString();
+        String line = objectMapper.writeValueAsString(Map.of(
+                "id", id, "request", request(LocalDate.of(2024, 3, 11), "3.00"))) + "\n";
+        Files.writeString(JOURNAL, line, StandardOpenOption.APPEND);
+
+        timeEntryIngestService.start();
+
+        assertThat(awaitProcessed(id).get("status").asText()).isEqualTo("CREATED");
+        // A second replay of the same journal line must not create the entry twice
+        Files.writeString(JOURNAL, line, StandardOpenOption.APPEND);
+        timeEntryIngestService.stop();
+        timeEntryIngestService.start();
+        assertThat(submissionRepository.count()).isEqualTo(1);
+        assertThat(Files.readString(JOURNAL)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectSubmissionThatKeepsFailingAndProcessTheRest() throws Exception {
+        // Replayed together so they land in one batch; the description overflows its column on every attempt
+        timeEntryIngestService.stop();
+        TimeEntryRequest poison = request(LocalDate.of(2024, 3, 12), "1.00");
+        poison.setDescription("x".repeat(300));
+        String poisonId = UUID.randomUUID().toString();
+        String nextId = UUID.randomUUID().toString();
+        Files.writeString(JOURNAL, objectMapper.writeValueAsString(Map.of("id", poisonId, "request", poison)) + "\n"
+                + objectMapper.writeValueAsString(Map.of("id", nextId,
+                        "request", request(LocalDate.of(2024, 3, 13), "1.00"))) + "\n",
+                StandardOpenOption.APPEND);
+
+        timeEntryIngestService.start();
+
+        JsonNode rejected = awaitProcessed(poisonId);
+        assertThat(rejected.get("status").asText()).isEqualTo("REJECTED");
+        assertThat(rejected.get("error").asText()).startsWith("Could not be written: ");
+        assertThat(awaitProcessed(nextId).get("status").asText()).isEqualTo("CREATED");
+
+        String body = mockMvc.perform(post("/api/v1/time-entries/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(LocalDate.of(2024, 3, 14), "1.00"))))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(awaitProcessed(objectMapper.readTree(body).get("id").asText()).get("status").asText())
+                .isEqualTo("CREATED");
+        await().atMost(Duration.ofSeconds(5)).until(() -> Files.readString(JOURNAL).isEmpty());
+    }
+
+    private JsonNode awaitProcessed(String id) {
+        return await().atMost(Duration.ofSeconds(10)).until(() -> objectMapper.readTree(
+                        mockMvc.perform(get("/api/v1/time-entries/submissions/" + id))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString()),
+                status -> !status.get("status").asText().equals("QUEUED"));
+    }
+
+    private static TimeEntryRequest request(LocalDate date, String hours) {
+        return TimeEntryRequest.builder()
+                .employeeId(1L)
+                .projectId(1L)
+                .date(date)
+                .hours(new BigDecimal(hours))
+                .description("Async submission")
+                .build();
+    }
+
+    private static Path tempJournal() {
+        try {
+            return Files.createTempDirectory("ingest").resolve("journal.ndjson");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.keyhole.timesheet.repository;
 
+import com.keyhole.timesheet.dto.EmployeeResponse;
 import com.keyhole.timesheet.entity.Employee;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +30,16 @@ class EmployeeRepositoryTest {
                 .contains("john.doe@keyhole.com", "jane.smith@keyhole.com", "bob.johnson@keyhole.com");
     }
 
+    @Test
+    void shouldProjectEmployeeResponses() {
+        List<EmployeeResponse> responses = employeeRepository.findAllResponses();
+        assertThat(responses).hasSize(3);
+        assertThat(employeeRepository.findResponseById(2L))
+                .get()
+                .extracting(EmployeeResponse::getEmail)
+                .isEqualTo("jane.smith@keyhole.com");
+    }
+
     @Test
     void shouldSaveNewEmployee() {
         Employee employee = Employee.builder()
@@ -1,5 +1,6 @@
 package com.keyhole.timesheet.repository;
 
+import com.keyhole.timesheet.dto.ProjectResponse;
 import com.keyhole.timesheet.entity.Project;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +35,12 @@ class ProjectRepositoryTest {
         assertThat(inactiveProjects.get(0).getCode()).isEqualTo("LGM");
     }
 
+    @Test
+    void shouldProjectActiveProjectResponses() {
+        List<ProjectResponse> responses = projectRepository.findResponsesByActive(true);
+        assertThat(responses).extracting(ProjectResponse::getCode).containsExactly("TSA", "CPT");
+    }
+
     @Test
     void shouldSaveNewProject() {
         Project project = Project.builder()
@@ -0,0 +1,41 @@
+package com.keyhole.timesheet.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Boots the prod profile on a private in-memory database: the context only starts if
+// Hibernate's validate finds the migrated schema matches the entities
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:migrationtest;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("prod")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void shouldApplyMigrationsWithoutSeedData() {
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("5");
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(employeeRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldCreateQueryIndexes() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class))
+                .contains("idx_time_entries_employee_date", "idx_time_entries_project_date", "idx_projects_active",
+                        "idx_daily_hours_employee_date", "idx_daily_hours_project_date");
+    }
+}
@@ -1,5 +1,6 @@
 package com.keyhole.timesheet.repository;
 
+import com.keyhole.timesheet.dto.TimeEntryResponse;
 import com.keyhole.timesheet.entity.TimeEntry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,30 +25,101 @@ class TimeEntryRepositoryTest {
 
     @Test
     void shouldFindByEmployeeId() {
-        List<TimeEntry> entries = timeEntryRepository.findByEmployeeId(1L);
+        List<TimeEntryResponse> entries = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .employeeId(1L)
+                .build());
         assertThat(entries).hasSize(2);
     }
 
     @Test
     void shouldFindByProjectId() {
-        List<TimeEntry> entries = timeEntryRepository.findByProjectId(1L);
+        List<TimeEntryResponse> entries = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .projectId(1L)
+                .build());
         assertThat(entries).hasSize(2);
     }
 
     @Test
     void shouldFindByEmployeeIdAndDateBetween() {
-        List<TimeEntry> entries = timeEntryRepository.findByEmployeeIdAndDateBetween(
-                1L, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 6));
+        List<TimeEntryResponse> entries = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .employeeId(1L)
+                .startDate(LocalDate.of(2025, 1, 6))
+                .endDate(LocalDate.of(2025, 1, 6))
+                .build());
         assertThat(entries).hasSize(1);
 
-        List<TimeEntry> weekEntries = timeEntryRepository.findByEmployeeIdAndDateBetween(
-                1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        List<TimeEntryResponse> weekEntries = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .employeeId(1L)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 31))
+                .build());
         assertThat(weekEntries).hasSize(2);
     }
 
+    @Test
+    void shouldFindPageAfterKeyset() {
+        TimeEntryFilter filter = new TimeEntryFilter();
+        List<TimeEntryResponse> firstPage = timeEntryRepository.findResponsePage(filter, null, null, 2);
+        assertThat(firstPage).extracting(TimeEntryResponse::getId).containsExactly(1L, 3L);
+
+        TimeEntryResponse last = firstPage.get(1);
+        List<TimeEntryResponse> secondPage = timeEntryRepository.findResponsePage(
+                filter, last.getDate(), last.getId(), 2);
+        assertThat(secondPage).extracting(TimeEntryResponse::getId).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void shouldCombineProjectAndDateRangeFilters() {
+        List<TimeEntryResponse> entries = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .projectId(1L)
+                .startDate(LocalDate.of(2025, 1, 6))
+                .endDate(LocalDate.of(2025, 1, 6))
+                .build());
+        assertThat(entries).extracting(TimeEntryResponse::getId).containsExactly(1L, 3L);
+
+        List<TimeEntryResponse> outOfRange = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .projectId(1L)
+                .startDate(LocalDate.of(2025, 1, 7))
+                .build());
+        assertThat(outOfRange).isEmpty();
+    }
+
+    @Test
+    void shouldCombineEmployeeAndProjectFilters() {
+        List<TimeEntryResponse> entries = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .employeeId(1L)
+                .projectId(2L)
+                .build());
+        assertThat(entries).extracting(TimeEntryResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    void shouldFilterByActiveProjectAndDescription() {
+        List<TimeEntryResponse> inactive = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .activeProject(false)
+                .build());
+        assertThat(inactive).extracting(TimeEntryResponse::getProjectName).containsOnly("Legacy Migration");
+
+        List<TimeEntryResponse> matching = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .description("DESIGN")
+                .build());
+        assertThat(matching).extracting(TimeEntryResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    void shouldProjectResponseWithNamesInSingleQuery() {
+        TimeEntryResponse response = timeEntryRepository.findResponseById(1L).orElseThrow();
+        assertThat(response.getEmployeeId()).isEqualTo(1L);
+        assertThat(response.getEmployeeName()).isEqualTo("John Doe");
+        assertThat(response.getProjectName()).isEqualTo("Timesheet App");
+        assertThat(response.getHours()).isEqualByComparingTo("8.00");
+    }
+
     @Test
     void shouldReturnEmptyForNonExistentEmployee() {
-        List<TimeEntry> entries = timeEntryRepository.findByEmployeeId(999L);
+        List<TimeEntryResponse> entries = timeEntryRepository.findResponses(TimeEntryFilter.builder()
+                .employeeId(999L)
+                .build());
         assertThat(entries).isEmpty();
     }
 }
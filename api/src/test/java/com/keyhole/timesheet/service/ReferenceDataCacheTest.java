@@ -0,0 +1,86 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.config.CacheConfig;
+import com.keyhole.timesheet.dto.EmployeeRequest;
+import com.keyhole.timesheet.dto.ProjectRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // Test transactions roll back, so values cached inside them must not leak into other tests
+    @BeforeEach
+    @AfterEach
+    void clearCaches() {
+        cacheManager.getCache(CacheConfig.EMPLOYEES).clear();
+        cacheManager.getCache(CacheConfig.PROJECTS).clear();
+    }
+
+    @Test
+    void shouldCacheEmployeeLookupsAndEvictOnUpdate() {
+        employeeService.findById(1L);
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES).get(1L)).isNotNull();
+
+        employeeService.update(1L, EmployeeRequest.builder()
+                .firstName("Johnny")
+                .lastName("Doe")
+                .email("john.doe@keyhole.com")
+                .department("Engineering")
+                .build());
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES).get(1L)).isNull();
+        assertThat(employeeService.findById(1L).getFirstName()).isEqualTo("Johnny");
+    }
+
+    @Test
+    void shouldCacheProjectLookupsAndEvictOnUpdate() {
+        projectService.findById(2L);
+        assertThat(cacheManager.getCache(CacheConfig.PROJECTS).get(2L)).isNotNull();
+
+        projectService.update(2L, ProjectRequest.builder()
+                .name("Client Portal v2")
+                .code("CPT")
+                .active(true)
+                .build());
+        assertThat(cacheManager.getCache(CacheConfig.PROJECTS).get(2L)).isNull();
+        assertThat(projectService.findById(2L).getName()).isEqualTo("Client Portal v2");
+    }
+
+    @Test
+    void shouldExposeCacheMetricsThroughActuator() throws Exception {
+        projectService.findById(1L);
+        projectService.findById(1L);
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:projects"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("cache.gets"));
+        mockMvc.perform(get("/actuator/metrics/cache.evictions").param("tag", "cache:employees"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,148 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.TimeEntryPageResponse;
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.exception.ResourceNotFoundException;
+import com.keyhole.timesheet.repository.ArchivedTimeEntryRepository;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import com.keyhole.timesheet.repository.TimeEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not @Transactional: each archive batch commits in its own transaction
+@SpringBootTest
+class TimeEntryArchiveServiceTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2021, 1, 1);
+
+    @Autowired
+    private TimeEntryArchiveService timeEntryArchiveService;
+
+    @Autowired
+    private TimeEntryService timeEntryService;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private ArchivedTimeEntryRepository archivedTimeEntryRepository;
+
+    @Autowired
+    private TimeEntryExportService timeEntryExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM time_entries_archive");
+        jdbcTemplate.update("DELETE FROM time_entries WHERE date < ?", CUTOFF);
+        jdbcTemplate.update("DELETE FROM daily_hours WHERE date < ?", CUTOFF);
+        timeEntryArchiveService.refresh();
+    }
+
+    @Test
+    void shouldMoveEntriesBeforeCutoffAndKeepThemVisible() {
+        TimeEntryResponse first = timeEntryService.create(request(LocalDate.of(2020, 6, 1), "8.00"));
+        TimeEntryResponse second = timeEntryService.create(request(LocalDate.of(2020, 12, 31), "4.00"));
+        long hotBefore = timeEntryRepository.count();
+
+        assertThat(timeEntryArchiveService.archive(CUTOFF)).isEqualTo(2);
+
+        assertThat(timeEntryRepository.count()).isEqualTo(hotBefore - 2);
+        assertThat(archivedTimeEntryRepository.count()).isEqualTo(2);
+        assertThat(timeEntryArchiveService.archivedThrough()).contains(CUTOFF.minusDays(1));
+
+        List<TimeEntryResponse> all = timeEntryService.findAll(TimeEntryFilter.builder().employeeId(1L).build());
+        assertThat(all).extracting(TimeEntryResponse::getId).contains(first.getId(), second.getId()).isSorted();
+        assertThat(timeEntryService.findAll(TimeEntryFilter.builder()
+                        .startDate(LocalDate.of(2020, 1, 1))
+                        .endDate(LocalDate.of(2020, 12, 31))
+                        .build()))
+                .extracting(TimeEntryResponse::getId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(timeEntryService.findAll(TimeEntryFilter.builder().startDate(CUTOFF).build()))
+                .extracting(TimeEntryResponse::getId)
+                .doesNotContain(first.getId(), second.getId());
+    }
+
+    @Test
+    void shouldPageAndExportAcrossArchive() throws Exception {
+        TimeEntryResponse first = timeEntryService.create(request(LocalDate.of(2020, 6, 1), "8.00"));
+        TimeEntryResponse second = timeEntryService.create(request(LocalDate.of(2020, 12, 31), "4.00"));
+        timeEntryArchiveService.archive(CUTOFF);
+        TimeEntryFilter filter = TimeEntryFilter.builder().employeeId(1L).build();
+        List<Long> expected = timeEntryService.findAll(filter).stream()
+                .sorted(TimeEntryCursor.ORDER)
+                .map(TimeEntryResponse::getId)
+                .toList();
+        assertThat(expected).startsWith(first.getId(), second.getId()).hasSizeGreaterThan(2);
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            TimeEntryPageResponse page = timeEntryService.findPage(filter, cursor, 1);
+            page.getItems().forEach(item -> paged.add(item.getId()));
+            cursor = page.getNext();
+        } while (cursor != null);
+        assertThat(paged).isEqualTo(expected);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        timeEntryExportService.export(filter, ExportFormat.CSV, out);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines().skip(1)
+                .map(line -> Long.valueOf(line.substring(0, line.indexOf(',')))))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldArchiveInBatches() {
+        for (int day = 1; day <= 5; day++) {
+            timeEntryService.create(request(LocalDate.of(2020, 3, day), "1.00"));
+        }
+        assertThat(timeEntryArchiveService.archive(CUTOFF)).isEqualTo(5);
+        assertThat(timeEntryArchiveService.archive(CUTOFF)).isZero();
+        assertThat(archivedTimeEntryRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRejectWritesToArchivedPeriod() {
+        TimeEntryResponse archived = timeEntryService.create(request(LocalDate.of(2020, 6, 1), "8.00"));
+        timeEntryArchiveService.archive(CUTOFF);
+
+        assertThatThrownBy(() -> timeEntryService.create(request(LocalDate.of(2020, 6, 2), "1.00")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Date falls in an archived period");
+        assertThatThrownBy(() -> timeEntryService.update(archived.getId(), request(CUTOFF, "1.00")))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void shouldNotReachArchiveWhenEmpty() {
+        assertThat(timeEntryArchiveService.archivedThrough()).isEmpty();
+        assertThat(timeEntryArchiveService.reaches(null)).isFalse();
+    }
+
+    private TimeEntryRequest request(LocalDate date, String hours) {
+        return TimeEntryRequest.builder()
+                .employeeId(1L)
+                .projectId(1L)
+                .date(date)
+                .hours(new BigDecimal(hours))
+                .description("Archive test")
+                .build();
+    }
+}
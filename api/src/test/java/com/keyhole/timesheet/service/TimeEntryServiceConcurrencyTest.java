@@ -0,0 +1,150 @@
+package com.keyhole.timesheet.service;
+
+import com.keyhole.timesheet.dto.TimeEntryRequest;
+import com.keyhole.timesheet.dto.TimeEntryResponse;
+import com.keyhole.timesheet.entity.QuarterHours;
+import com.keyhole.timesheet.repository.EmployeeRepository;
+import com.keyhole.timesheet.repository.TimeEntryFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// Not @Transactional: each submission must commit on its own thread for the race to be real
+@SpringBootTest
+class TimeEntryServiceConcurrencyTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 2, 3);
+    private static final int THREADS = 16;
+    private static final int SUBMISSIONS = 64;
+
+    @Autowired
+    private TimeEntryService timeEntryService;
+
+    @Autowired
+    private DailyHoursService dailyHoursService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        timeEntryService.findAll(TimeEntryFilter.builder().startDate(DAY).endDate(DAY).build())
+                .forEach(entry -> timeEntryService.delete(entry.getId()));
+    }
+
+    @Test
+    void shouldNeverExceed24HoursPerDayUnderConcurrentSubmissions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    timeEntryService.create(request(1L, "1.00"));
+                    accepted.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(accepted.get()).isEqualTo(24);
+        assertThat(rejected.get()).isEqualTo(SUBMISSIONS - 24);
+        assertThat(dailyHoursService.totalFor(1L, DAY)).isEqualTo(QuarterHours.MAX_PER_DAY);
+        BigDecimal stored = timeEntryService.findAll(TimeEntryFilter.builder().employeeId(1L).startDate(DAY).endDate(DAY).build())
+                .stream().map(TimeEntryResponse::getHours).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(stored).isEqualByComparingTo("24");
+    }
+
+    @Test
+    void shouldNotSerializeSubmissionsForDifferentEmployees() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            // Hold employee 1's row lock in an open transaction, as a slow submission would
+            Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                employeeRepository.findByIdForUpdate(1L).orElseThrow();
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<Boolean> blocked = executor.submit(() -> {
+                timeEntryService.create(request(1L, "0.25"));
+                return released.get();
+            });
+            await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(10))
+                    .until(this::blockedSessions, count -> count > 0);
+
+            // Another employee's submission commits while employee 1's is parked on the lock
+            timeEntryService.create(request(2L, "0.25"));
+            assertThat(dailyHoursService.totalFor(2L, DAY)).isEqualTo(1);
+            assertThat(blockedSessions()).isPositive();
+
+            released.set(true);
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            assertThat(blocked.get(10, TimeUnit.SECONDS)).as("finished after the lock was released").isTrue();
+            assertThat(dailyHoursService.totalFor(1L, DAY)).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    // H2 sessions waiting on another session's lock
+    private int blockedSessions() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE BLOCKER_ID IS NOT NULL", Integer.class);
+    }
+
+    private TimeEntryRequest request(Long employeeId, String hours) {
+        return TimeEntryRequest.builder()
+                .employeeId(employeeId)
+                .projectId(1L)
+                .date(DAY)
+                .hours(new BigDecimal(hours))
+                .description("Concurrent")
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
@@ -135,4 +136,32 @@ class TimeEntryServiceValidationTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("between 0.25 and 24");
     }
+
+    @Test
+    void shouldReturnHoursWithTwoDecimalPlacesRegardlessOfInputScale() {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(1L)
+                .projectId(1L)
+                .date(LocalDate.of(2025, 1, 10))
+                .hours(new BigDecimal("2.5000"))
+                .description("Trailing zeros")
+                .build();
+
+        assertThat(timeEntryService.create(request).getHours()).isEqualTo(new BigDecimal("2.50"));
+    }
+
+    @Test
+    void shouldRejectHoursBeyondIntRange() {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+                .employeeId(1L)
+                .projectId(1L)
+                .date(LocalDate.of(2025, 1, 10))
+                .hours(new BigDecimal("1000000000000"))
+                .description("Overflow")
+                .build();
+
+        assertThatThrownBy(() -> timeEntryService.create(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("between 0.25 and 24");
+    }
 }
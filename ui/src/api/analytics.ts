@@ -0,0 +1,20 @@
+import client from './client'
+import type { HoursBreakdown } from './types'
+
+export type AnalyticsDimension = 'employee' | 'project' | 'department' | 'year' | 'month' | 'day'
+
+interface HoursBreakdownFilters {
+  startDate?: string
+  endDate?: string
+  employeeId?: number[]
+  projectId?: number[]
+  department?: string[]
+}
+
+// Only served when the API runs with timesheet.analytics.enabled=true
+export function getHoursBreakdown(groupBy: AnalyticsDimension[], filters?: HoursBreakdownFilters) {
+  return client.get<HoursBreakdown>('/analytics/hours', {
+    params: { ...filters, groupBy: groupBy.join(',') },
+    paramsSerializer: { indexes: null },
+  })
+}
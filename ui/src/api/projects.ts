@@ -1,5 +1,11 @@
 import client from './client'
-import type { Project, ProjectRequest } from './types'
+import type {
+  Project,
+  ProjectContributors,
+  ProjectHoursReport,
+  ProjectRequest,
+  ReportGranularity,
+} from './types'
 
 export function getProjects(active?: boolean) {
   const params = active !== undefined ? { active } : {}
@@ -17,3 +23,11 @@ export function createProject(data: ProjectRequest) {
 export function updateProject(id: number, data: ProjectRequest) {
   return client.put<Project>(`/projects/${id}`, data)
 }
+
+export function getProjectHours(id: number, startDate: string, endDate: string, granularity: ReportGranularity = 'week') {
+  return client.get<ProjectHoursReport>(`/projects/${id}/hours`, { params: { startDate, endDate, granularity } })
+}
+
+export function getProjectContributors(id: number, startDate: string, endDate: string) {
+  return client.get<ProjectContributors>(`/projects/${id}/contributors`, { params: { startDate, endDate } })
+}
@@ -0,0 +1,14 @@
+import client from './client'
+import type { WeeklyPivot, WeeklySummary } from './types'
+
+export function getWeeklySummary(employeeId: number, week: string) {
+  return client.get<WeeklySummary>('/summaries/weekly', { params: { employeeId, week } })
+}
+
+export function getWeeklyPivot(week: string, selection: { employeeIds: number[] } | { department: string }) {
+  const params =
+    'employeeIds' in selection
+      ? { week, employeeIds: selection.employeeIds.join(',') }
+      : { week, department: selection.department }
+  return client.get<WeeklyPivot>('/summaries/weekly/pivot', { params })
+}
@@ -1,5 +1,7 @@
 import client from './client'
-import type { TimeEntry, TimeEntryRequest } from './types'
+import type { NormalizedTimeEntries, TimeEntry, TimeEntryChange, TimeEntryRequest } from './types'
+
+const NORMALIZED_TIME_ENTRIES = 'application/vnd.timesheet.normalized+json'
 
 interface TimeEntryFilters {
   employeeId?: number
@@ -8,8 +10,22 @@ interface TimeEntryFilters {
   endDate?: string
 }
 
+// Names come once per employee/project instead of on every row; rows are rebuilt here
 export function getTimeEntries(filters?: TimeEntryFilters) {
-  return client.get<TimeEntry[]>('/time-entries', { params: filters })
+  return client
+    .get<NormalizedTimeEntries>('/time-entries', {
+      params: filters,
+      headers: { Accept: NORMALIZED_TIME_ENTRIES },
+    })
+    .then((res) => ({
+      ...res,
+      data: res.data.entries.map<TimeEntry>((entry) => ({
+        ...entry,
+        employeeName: res.data.employees[entry.employeeId],
+        projectName: res.data.projects[entry.projectId],
+        description: entry.description ?? '',
+      })),
+    }))
 }
 
 export function getTimeEntry(id: number) {
@@ -27,3 +43,16 @@ export function updateTimeEntry(id: number, data: TimeEntryRequest) {
 export function deleteTimeEntry(id: number) {
   return client.delete(`/time-entries/${id}`)
 }
+
+// EventSource reconnects on its own and resumes with Last-Event-ID; onReset means changes were missed
+export function subscribeToTimeEntryChanges(
+  onChange: (change: TimeEntryChange) => void,
+  onReset: () => void,
+  employeeId?: number,
+) {
+  const query = employeeId !== undefined ? `?employeeId=${employeeId}` : ''
+  const source = new EventSource(`${client.defaults.baseURL}/time-entries/changes${query}`)
+  source.addEventListener('change', (event) => onChange(JSON.parse((event as MessageEvent).data)))
+  source.addEventListener('reset', () => onReset())
+  return () => source.close()
+}
@@ -39,6 +39,27 @@ export interface TimeEntry {
   description: string
 }
 
+export interface NormalizedTimeEntries {
+  entries: {
+    id: number
+    employeeId: number
+    projectId: number
+    date: string
+    hours: number
+    description?: string
+  }[]
+  employees: Record<number, string>
+  projects: Record<number, string>
+}
+
+export interface TimeEntryChange {
+  eventId: string
+  type: 'CREATED' | 'UPDATED' | 'DELETED'
+  entryId: number
+  entry: TimeEntry | null
+  committedAt: string
+}
+
 export interface TimeEntryRequest {
   employeeId: number
   projectId: number
@@ -46,3 +67,90 @@ export interface TimeEntryRequest {
   hours: number
   description: string
 }
+
+export interface ProjectHours {
+  projectId: number
+  projectName: string
+  hours: number
+}
+
+export interface DailySummary {
+  date: string
+  projects: ProjectHours[]
+  totalHours: number
+}
+
+export interface WeeklySummary {
+  employeeId: number
+  weekStart: string
+  weekEnd: string
+  days: DailySummary[]
+  totalHours: number
+}
+
+export interface PivotRow {
+  date: string
+  hours: number[]
+  totalHours: number
+}
+
+export interface EmployeeWeekPivot {
+  employeeId: number
+  employeeName: string
+  projects: ProjectHours[]
+  rows: PivotRow[]
+  totalHours: number
+}
+
+export interface WeeklyPivot {
+  weekStart: string
+  weekEnd: string
+  employees: EmployeeWeekPivot[]
+  dailyTotals: number[]
+  totalHours: number
+}
+
+export type ReportGranularity = 'day' | 'week' | 'month'
+
+export interface PeriodHours {
+  periodStart: string
+  periodEnd: string
+  hours: number
+  cumulativeHours: number
+}
+
+export interface ProjectHoursReport {
+  projectId: number
+  projectName: string
+  startDate: string
+  endDate: string
+  granularity: string
+  periods: PeriodHours[]
+  totalHours: number
+}
+
+export interface EmployeeHours {
+  employeeId: number
+  employeeName: string
+  hours: number
+}
+
+export interface ProjectContributors {
+  projectId: number
+  projectName: string
+  startDate: string
+  endDate: string
+  contributors: EmployeeHours[]
+  totalHours: number
+}
+
+export interface HoursBreakdown {
+  groupBy: string[]
+  rows: {
+    key: (string | null)[]
+    hours: number
+    entries: number
+  }[]
+  totalHours: number
+  entries: number
+}
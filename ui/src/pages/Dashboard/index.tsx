@@ -17,8 +17,8 @@ import TableRow from '@mui/material/TableRow'
 import TableCell from '@mui/material/TableCell'
 import Paper from '@mui/material/Paper'
 import { getEmployees } from '../../api/employees'
-import { getTimeEntries } from '../../api/timeEntries'
-import type { Employee, TimeEntry } from '../../api/types'
+import { getWeeklySummary } from '../../api/summaries'
+import type { Employee, WeeklySummary } from '../../api/types'
 
 function getWeekRange(date: Date) {
   const day = date.getDay()
@@ -38,7 +38,7 @@ const DAY_NAMES = ['Monday', 'Tuesday', 'Wednesday', 'Thursday', 'Friday', 'Satu
 
 function DashboardPage() {
   const [employees, setEmployees] = useState<Employee[]>([])
-  const [entries, setEntries] = useState<TimeEntry[]>([])
+  const [summary, setSummary] = useState<WeeklySummary | null>(null)
   const [selectedEmployeeId, setSelectedEmployeeId] = useState('')
   const [loading, setLoading] = useState(false)
 
@@ -52,26 +52,22 @@ function DashboardPage() {
 
   useEffect(() => {
     if (!selectedEmployeeId) {
-      setEntries([])
+      setSummary(null)
       return
     }
     setLoading(true)
-    getTimeEntries({
-      employeeId: Number(selectedEmployeeId),
-      startDate: formatDate(start),
-      endDate: formatDate(end),
-    })
-      .then((res) => setEntries(res.data))
+    getWeeklySummary(Number(selectedEmployeeId), formatDate(start))
+      .then((res) => setSummary(res.data))
       .catch(() => { /* handled silently */ })
       .finally(() => setLoading(false))
-  }, [selectedEmployeeId, start, end])
+  }, [selectedEmployeeId, start])
 
   // Build the summary grid
   const projectNames = useMemo(() => {
     const names = new Set<string>()
-    entries.forEach((e) => names.add(e.projectName))
+    summary?.days.forEach((day) => day.projects.forEach((p) => names.add(p.projectName)))
     return Array.from(names).sort()
-  }, [entries])
+  }, [summary])
 
   const weekDates = useMemo(() => {
     const dates: string[] = []
@@ -89,20 +85,20 @@ function DashboardPage() {
     weekDates.forEach((date) => {
       map[date] = {}
     })
-    entries.forEach((entry) => {
-      if (!map[entry.date]) map[entry.date] = {}
-      map[entry.date][entry.projectName] = (map[entry.date][entry.projectName] || 0) + entry.hours
+    summary?.days.forEach((day) => {
+      if (!map[day.date]) map[day.date] = {}
+      day.projects.forEach((p) => {
+        map[day.date][p.projectName] = p.hours
+      })
     })
     return map
-  }, [entries, weekDates])
+  }, [summary, weekDates])
 
   const dailyTotals = useMemo(() => {
-    return weekDates.map((date) => {
-      return Object.values(grid[date] || {}).reduce((sum, h) => sum + h, 0)
-    })
-  }, [grid, weekDates])
+    return weekDates.map((date) => summary?.days.find((day) => day.date === date)?.totalHours || 0)
+  }, [summary, weekDates])
 
-  const grandTotal = dailyTotals.reduce((sum, h) => sum + h, 0)
+  const grandTotal = summary?.totalHours || 0
 
   return (
     <div>
@@ -132,7 +128,7 @@ function DashboardPage() {
 
       {loading && <Box sx={{ textAlign: 'center', py: 4 }}><CircularProgress /></Box>}
 
-      {selectedEmployeeId && !loading && entries.length > 0 && (
+      {selectedEmployeeId && !loading && grandTotal > 0 && (
         <TableContainer component={Paper}>
           <Table>
             <TableHead>
@@ -176,7 +172,7 @@ function DashboardPage() {
         </TableContainer>
       )}
 
-      {selectedEmployeeId && !loading && entries.length === 0 && (
+      {selectedEmployeeId && !loading && grandTotal === 0 && (
         <Typography>No time entries for this week.</Typography>
       )}
     </div>